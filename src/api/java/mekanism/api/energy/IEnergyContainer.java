@@ -6,6 +6,7 @@ import mekanism.api.IContentsListener;
 import mekanism.api.SerializationConstants;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.neoforged.neoforge.common.util.INBTSerializable;
@@ -107,6 +108,39 @@ public interface IEnergyContainer extends INBTSerializable<CompoundTag>, IConten
         return ret;
     }
 
+    /**
+     * Extracts energy from this {@link IEnergyContainer} without returning how much was extracted. This is meant for things like machines using energy every tick, so
+     * that the container doesn't have to create a copy of the extracted amount that would just be discarded.
+     *
+     * @param amount         Amount of energy to extract (may be greater than the current stored amount or the container's capacity) This must not be modified by the
+     *                       handler.
+     * @param automationType The method that this container is being interacted from.
+     *
+     * @implNote Defaults to executing {@link #extract(FloatingLong, Action, AutomationType)}. If the internal amount does get updated make sure to call
+     * {@link #onContentsChanged()}.
+     * @since 10.6.5
+     */
+    default void consume(FloatingLong amount, AutomationType automationType) {
+        extract(amount, Action.EXECUTE, automationType);
+    }
+
+    /**
+     * Extracts the value of the given {@link FloatingLongAccumulator} from this {@link IEnergyContainer} without returning how much was extracted.
+     *
+     * @param amount         Amount of energy to extract (may be greater than the current stored amount or the container's capacity) This must not be modified by the
+     *                       handler.
+     * @param automationType The method that this container is being interacted from.
+     *
+     * @implNote Defaults to executing {@link #extract(FloatingLong, Action, AutomationType)} with a {@link FloatingLong} created from the accumulator. It is recommended
+     * to override this so that it can be extracted without creating any new objects.
+     * @since 10.6.5
+     */
+    default void consume(FloatingLongAccumulator amount, AutomationType automationType) {
+        if (!amount.isZero()) {
+            extract(amount.toFloatingLong(), Action.EXECUTE, automationType);
+        }
+    }
+
     /**
      * Retrieves the maximum amount of energy allowed to exist in this {@link IEnergyContainer}.
      *
@@ -62,8 +62,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     );
     private static final DecimalFormat df = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
-    //TODO: Eventually we should define a way of doing a set of operations all at once, and outputting a new value
-    // given that way we can internally do all the calculations using primitives rather than spamming a lot of objects
+    //Note: To perform a set of operations all at once using primitives rather than creating a lot of objects, use a FloatingLongAccumulator
     /**
      * The maximum number of decimal digits we can represent
      */
@@ -72,11 +71,11 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     /**
      * The maximum value we can represent as a decimal
      */
-    private static final short MAX_DECIMAL = 9_999;
+    static final short MAX_DECIMAL = 9_999;
     /**
      * The value which represents 1.0, this is one more than the value of {@link #MAX_DECIMAL}
      */
-    private static final short SINGLE_UNIT = MAX_DECIMAL + 1;
+    static final short SINGLE_UNIT = MAX_DECIMAL + 1;
     /**
      * Used for calculating whether a multiplication will overflow
      */
@@ -301,6 +300,23 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return plusEqual(toAdd.value, toAdd.decimal);
     }
 
+    /**
+     * Adds the value of the given {@link FloatingLongAccumulator} to this {@link FloatingLong}, modifying the current object unless it is a constant in which case it
+     * instead returns the result in a new object. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @param toAdd The {@link FloatingLongAccumulator} to add.
+     *
+     * @return The {@link FloatingLong} representing the value of adding the given {@link FloatingLongAccumulator} to this {@link FloatingLong}.
+     *
+     * @apiNote It is recommended to set this to itself to reduce the chance of accidental calls if calling this on a constant {@link FloatingLong}
+     * <br>
+     * {@code value = value.plusEqual(toAdd)}
+     * @since 10.6.5
+     */
+    public FloatingLong plusEqual(FloatingLongAccumulator toAdd) {
+        return plusEqual(toAdd.getValue(), toAdd.getDecimal());
+    }
+
     /**
      * Internal helper to adds the components that make up a {@link FloatingLong} to this {@link FloatingLong}, modifying the current object unless it is a constant in
      * which case it instead returns the result in a new object. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
@@ -372,15 +388,49 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * {@code value = value.minusEqual(toSubtract)}
      */
     public FloatingLong minusEqual(FloatingLong toSubtract) {
-        if (toSubtract.isZero() || isZero()) {
+        return minusEqual(toSubtract.value, toSubtract.decimal);
+    }
+
+    /**
+     * Subtracts the value of the given {@link FloatingLongAccumulator} from this {@link FloatingLong}, modifying the current object unless it is a constant in which case
+     * it instead returns the result in a new object. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtract The {@link FloatingLongAccumulator} to subtract.
+     *
+     * @return The {@link FloatingLong} representing the value of subtracting the given {@link FloatingLongAccumulator} from this {@link FloatingLong}.
+     *
+     * @apiNote It is recommended to set this to itself to reduce the chance of accidental calls if calling this on a constant {@link FloatingLong}
+     * <br>
+     * {@code value = value.minusEqual(toSubtract)}
+     * @since 10.6.5
+     */
+    public FloatingLong minusEqual(FloatingLongAccumulator toSubtract) {
+        return minusEqual(toSubtract.getValue(), toSubtract.getDecimal());
+    }
+
+    /**
+     * Internal helper to subtract the components that make up a {@link FloatingLong} from this {@link FloatingLong}, modifying the current object unless it is a constant
+     * in which case it instead returns the result in a new object. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @param toSubtractValue   The value to subtract represented as an unsigned long.
+     * @param toSubtractDecimal The short value to use for the decimal portion to subtract. Must be clamped between [0, {@link #MAX_DECIMAL}].
+     *
+     * @return The {@link FloatingLong} representing the value of subtracting the given components from this {@link FloatingLong}.
+     *
+     * @apiNote Used to avoid extra object creation.
+     */
+    private FloatingLong minusEqual(long toSubtractValue, short toSubtractDecimal) {
+        if (toSubtractValue == 0 && toSubtractDecimal == 0 || isZero()) {
             return this;
-        } else if (toSubtract.greaterOrEqual(this)) {
+        }
+        int valueCompare = Long.compareUnsigned(toSubtractValue, value);
+        if (valueCompare > 0 || valueCompare == 0 && toSubtractDecimal >= decimal) {
             //Clamp the result at zero as floating longs cannot become negative
             //To save a tiny bit of memory if this is called on a constant we just return the constant zero as the object can't be modified anyway
             return isConstant ? ZERO : setAndClampValues(0, (short) 0);
         }
-        long newValue = value - toSubtract.value;
-        short newDecimal = (short) (decimal - toSubtract.decimal);
+        long newValue = value - toSubtractValue;
+        short newDecimal = (short) (decimal - toSubtractDecimal);
         if (newDecimal < 0) {
             newDecimal += SINGLE_UNIT;
             newValue--;
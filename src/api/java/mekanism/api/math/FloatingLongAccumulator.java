@@ -0,0 +1,320 @@
+package mekanism.api.math;
+
+import mekanism.api.annotations.NothingNullByDefault;
+
+/**
+ * A mutable accumulator for {@link FloatingLong} values that performs all of its operations in place on primitives. This allows chaining multiple operations together,
+ * or reusing the same accumulator across calls, without creating intermediary {@link FloatingLong} objects. Only once the final value is needed does it have to be
+ * converted back using {@link #toFloatingLong()}.
+ * <br>
+ * Like {@link FloatingLong} the value is clamped between {@link FloatingLong#ZERO} and {@link FloatingLong#MAX_VALUE} rather than underflowing or overflowing.
+ *
+ * @apiNote This class is not thread safe, and accumulators should not be shared between callers that may use them at the same time.
+ * @since 10.6.5
+ */
+@NothingNullByDefault
+public final class FloatingLongAccumulator {
+
+    private long value;
+    private short decimal;
+
+    /**
+     * Creates an accumulator with a value of zero.
+     */
+    public FloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator with the same value as the given {@link FloatingLong}.
+     *
+     * @param initial Initial value.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        set(initial);
+    }
+
+    /**
+     * @return the unsigned long representing the whole number value of this accumulator
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return the short representing the decimal value of this accumulator
+     */
+    public short getDecimal() {
+        return decimal;
+    }
+
+    /**
+     * Checks if this accumulator is zero.
+     *
+     * @return {@code true} if the value of this accumulator is zero, {@code false} otherwise.
+     */
+    public boolean isZero() {
+        return value == 0 && decimal == 0;
+    }
+
+    /**
+     * Sets this accumulator to the value of the given {@link FloatingLong}.
+     *
+     * @param toSet Value to set.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator set(FloatingLong toSet) {
+        this.value = toSet.getValue();
+        this.decimal = toSet.getDecimal();
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the value of the given accumulator.
+     *
+     * @param toSet Value to set.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator set(FloatingLongAccumulator toSet) {
+        this.value = toSet.value;
+        this.decimal = toSet.decimal;
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to zero.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator setZero() {
+        this.value = 0;
+        this.decimal = 0;
+        return this;
+    }
+
+    /**
+     * Adds the given {@link FloatingLong} to this accumulator, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toAdd The {@link FloatingLong} to add.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator add(FloatingLong toAdd) {
+        return add(toAdd.getValue(), toAdd.getDecimal());
+    }
+
+    /**
+     * Adds the given accumulator's value to this accumulator, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toAdd The accumulator to add.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator add(FloatingLongAccumulator toAdd) {
+        return add(toAdd.value, toAdd.decimal);
+    }
+
+    /**
+     * Adds the given unsigned long to this accumulator, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toAdd The value to add represented as an unsigned long.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator add(long toAdd) {
+        return add(toAdd, (short) 0);
+    }
+
+    private FloatingLongAccumulator add(long toAddValue, short toAddDecimal) {
+        long newValue = value + toAddValue;
+        if (Long.compareUnsigned(newValue, value) < 0) {
+            //Overflowed, clamp at the max value
+            return setMax();
+        }
+        int newDecimal = decimal + toAddDecimal;
+        if (newDecimal > FloatingLong.MAX_DECIMAL) {
+            if (newValue == -1) {
+                return setMax();
+            }
+            newDecimal -= FloatingLong.SINGLE_UNIT;
+            newValue++;
+        }
+        this.value = newValue;
+        this.decimal = (short) newDecimal;
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link FloatingLong} from this accumulator, clamping at {@link FloatingLong#ZERO}.
+     *
+     * @param toSubtract The {@link FloatingLong} to subtract.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator subtract(FloatingLong toSubtract) {
+        return subtract(toSubtract.getValue(), toSubtract.getDecimal());
+    }
+
+    /**
+     * Subtracts the given accumulator's value from this accumulator, clamping at {@link FloatingLong#ZERO}.
+     *
+     * @param toSubtract The accumulator to subtract.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator subtract(FloatingLongAccumulator toSubtract) {
+        return subtract(toSubtract.value, toSubtract.decimal);
+    }
+
+    /**
+     * Subtracts the given unsigned long from this accumulator, clamping at {@link FloatingLong#ZERO}.
+     *
+     * @param toSubtract The value to subtract represented as an unsigned long.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator subtract(long toSubtract) {
+        return subtract(toSubtract, (short) 0);
+    }
+
+    private FloatingLongAccumulator subtract(long toSubtractValue, short toSubtractDecimal) {
+        if (compareTo(toSubtractValue, toSubtractDecimal) <= 0) {
+            //Clamp the result at zero
+            return setZero();
+        }
+        long newValue = value - toSubtractValue;
+        int newDecimal = decimal - toSubtractDecimal;
+        if (newDecimal < 0) {
+            newDecimal += FloatingLong.SINGLE_UNIT;
+            newValue--;
+        }
+        this.value = newValue;
+        this.decimal = (short) newDecimal;
+        return this;
+    }
+
+    /**
+     * Multiplies this accumulator by the given unsigned long, clamping at {@link FloatingLong#MAX_VALUE}. Like {@link FloatingLong#multiply(long)} any precision past the
+     * decimal is rounded down.
+     *
+     * @param toMultiply The value to multiply by represented as an unsigned long.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator multiply(long toMultiply) {
+        if (toMultiply == 1 || isZero()) {
+            return this;
+        } else if (toMultiply == 0) {
+            return setZero();
+        } else if (value != 0 && Long.compareUnsigned(toMultiply, Long.divideUnsigned(-1, value)) > 0) {
+            //The whole number part alone would overflow, clamp at the max value
+            return setMax();
+        }
+        long newValue = value * toMultiply;
+        //Split the multiplier around a single unit so that multiplying the decimal can't overflow
+        long decimalRemainder = Long.remainderUnsigned(toMultiply, FloatingLong.SINGLE_UNIT) * decimal;
+        long decimalValue = Long.divideUnsigned(toMultiply, FloatingLong.SINGLE_UNIT) * decimal + decimalRemainder / FloatingLong.SINGLE_UNIT;
+        this.value = newValue;
+        this.decimal = 0;
+        return add(decimalValue, (short) (decimalRemainder % FloatingLong.SINGLE_UNIT));
+    }
+
+    /**
+     * Sets this accumulator to the smaller of its current value and the given {@link FloatingLong}.
+     *
+     * @param max The maximum value this accumulator may have.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator clampMax(FloatingLong max) {
+        if (compareTo(max) > 0) {
+            set(max);
+        }
+        return this;
+    }
+
+    /**
+     * Sets this accumulator to the larger of its current value and the given {@link FloatingLong}.
+     *
+     * @param min The minimum value this accumulator may have.
+     *
+     * @return this accumulator
+     */
+    public FloatingLongAccumulator clampMin(FloatingLong min) {
+        if (compareTo(min) < 0) {
+            set(min);
+        }
+        return this;
+    }
+
+    private FloatingLongAccumulator setMax() {
+        this.value = -1;
+        this.decimal = FloatingLong.MAX_DECIMAL;
+        return this;
+    }
+
+    /**
+     * Compares the value of this accumulator to the given {@link FloatingLong}.
+     *
+     * @param toCompare The {@link FloatingLong} to compare to
+     *
+     * @return zero if equal to toCompare, less than zero if smaller than toCompare, greater than zero if bigger than toCompare
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return compareTo(toCompare.getValue(), toCompare.getDecimal());
+    }
+
+    private int compareTo(long otherValue, short otherDecimal) {
+        int valueCompare = Long.compareUnsigned(value, otherValue);
+        if (valueCompare == 0) {
+            return Short.compare(decimal, otherDecimal);
+        }
+        return valueCompare;
+    }
+
+    /**
+     * Helper method to check if this accumulator is smaller than the given {@link FloatingLong}
+     *
+     * @param toCompare The {@link FloatingLong} to compare to
+     *
+     * @return {@code true} if this accumulator is smaller, {@code false} otherwise.
+     */
+    public boolean smallerThan(FloatingLong toCompare) {
+        return compareTo(toCompare) < 0;
+    }
+
+    /**
+     * Helper method to check if this accumulator is greater than the given {@link FloatingLong}
+     *
+     * @param toCompare The {@link FloatingLong} to compare to
+     *
+     * @return {@code true} if this accumulator is larger, {@code false} otherwise.
+     */
+    public boolean greaterThan(FloatingLong toCompare) {
+        return compareTo(toCompare) > 0;
+    }
+
+    /**
+     * Checks if this accumulator has the same value as the given {@link FloatingLong}.
+     *
+     * @param other The {@link FloatingLong} to compare to
+     *
+     * @return {@code true} if the values are equal, {@code false} otherwise.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return value == other.getValue() && decimal == other.getDecimal();
+    }
+
+    /**
+     * Creates a new mutable {@link FloatingLong} with the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLong() {
+        return FloatingLong.create(value, decimal);
+    }
+
+    @Override
+    public String toString() {
+        return toFloatingLong().toString();
+    }
+}
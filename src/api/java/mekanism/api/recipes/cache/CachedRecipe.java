@@ -9,16 +9,16 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
-import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.api.math.FloatingLong;
-import mekanism.api.math.FloatingLongConsumer;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class to help implement handling of Mekanism recipes.
@@ -86,12 +86,16 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      */
     private FloatingLongSupplier storedEnergy = () -> FloatingLong.ZERO;
     /**
-     * Called to consume energy.
+     * Energy container to consume energy from.
      *
-     * @implNote Defaults to doing nothing.
+     * @implNote Defaults to not consuming any energy.
      */
-    private FloatingLongConsumer useEnergy = energy -> {
-    };
+    @Nullable
+    private IEnergyContainer energyContainer;
+    /**
+     * Scratch accumulator reused by {@link #useEnergy(int)} so that using energy for multiple operations doesn't have to create a new object every tick.
+     */
+    private final FloatingLongAccumulator energyToUse = new FloatingLongAccumulator();
 
     /**
      * Gets the baseline maximum number of operations that can be performed if everything is working properly. The returned value should be at least one.
@@ -178,7 +182,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         this.perTickEnergy = Objects.requireNonNull(perTickEnergy, "The per tick energy cannot be null.");
         Objects.requireNonNull(energyContainer, "Energy container cannot be null.");
         this.storedEnergy = energyContainer::getEnergy;
-        this.useEnergy = energy -> energyContainer.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+        this.energyContainer = energyContainer;
         return this;
     }
 
@@ -289,6 +293,17 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         pausedForErrors = false;
     }
 
+    /**
+     * Checks if this recipe is currently paused due to errors that cause processing to stop, and will not process again until {@link #unpauseErrors()} is called.
+     *
+     * @return {@code true} if this recipe is paused for errors.
+     *
+     * @since 10.6.5
+     */
+    public boolean isPausedForErrors() {
+        return pausedForErrors;
+    }
+
     /**
      * Sets the number of operating ticks that have passed so far. This is used to allow {@link CachedRecipe} holders to persist and load recipe progress.
      *
@@ -403,13 +418,14 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      * @param operations Number of operations being performed.
      */
     protected void useEnergy(int operations) {
-        FloatingLong energy = perTickEnergy.get();
-        if (operations == 1) {
-            //While floating long will short circuit any calculations if multiplied by one given we require making a copy to ensure we don't
-            // modify the source value, if we do the check here manually as well, then we can skip creating unnecessary objects
-            useEnergy.accept(energy);
-        } else {
-            useEnergy.accept(energy.multiply(operations));
+        if (energyContainer != null) {
+            FloatingLong energy = perTickEnergy.get();
+            if (operations == 1) {
+                //Skip copying the energy into the accumulator if we are only performing a single operation
+                energyContainer.consume(energy, AutomationType.INTERNAL);
+            } else {
+                energyContainer.consume(energyToUse.set(energy).multiply(operations), AutomationType.INTERNAL);
+            }
         }
     }
 
@@ -1019,6 +1019,10 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
+        add(MekanismLang.COMMAND_STATS_PATHFINDER, "Transporter path cache: %1$s path trees cached, %2$s hit rate (%3$s hits, %4$s misses), %5$s evicted.");
+        add(MekanismLang.COMMAND_STATS_MACHINES, "Machines: %1$s awake and %2$s sleeping last tick (%3$s sleeping), %4$s machine ticks skipped.");
+        add(MekanismLang.COMMAND_STATS_QIO, "%1$s: %2$s QIO updates, %3$s item types sent, %4$s count changes in %5$s bytes, %6$s ms spent syncing.");
+        add(MekanismLang.COMMAND_STATS_QIO_NONE, "No players are viewing the items in a QIO frequency.");
         //Tooltip stuff
         add(MekanismLang.UNKNOWN, "Unknown");
         add(MekanismLang.MODE, "Mode: %1$s");
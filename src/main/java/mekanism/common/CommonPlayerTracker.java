@@ -5,6 +5,7 @@ import mekanism.common.advancements.MekanismCriteriaTriggers;
 import mekanism.common.block.BlockBounding;
 import mekanism.common.block.BlockCardboardBox;
 import mekanism.common.block.BlockMekanism;
+import mekanism.common.content.gear.mekatool.VeinMiningManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.network.to_client.player_data.PacketPlayerData;
 import mekanism.common.network.to_client.player_data.PacketResetPlayerClient;
@@ -52,6 +53,7 @@ public class CommonPlayerTracker {
     public void onPlayerLogoutEvent(PlayerLoggedOutEvent event) {
         Player player = event.getEntity();
         Mekanism.playerState.clearPlayer(player.getUUID(), false);
+        VeinMiningManager.cancel(player.getUUID());
     }
 
     @SubscribeEvent
@@ -11,12 +11,17 @@ import java.util.function.Predicate;
 import mekanism.api.SerializationConstants;
 import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.mekatool.VeinMiningManager;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.lib.inventory.CachedItemFinder;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.network.TileUpdateBatcher;
+import mekanism.common.tile.base.MachineSleepStats;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -176,11 +181,25 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onTick(ServerTickEvent.Pre event) {
+        //Clear any cached snapshots of inventories from the previous tick, as their contents may have changed since
+        TransporterManager.clearPredictionCache();
+        if (flushTagAndRecipeCaches) {
+            //Make filters forget which items they matched as the tags of the items may have changed
+            CachedItemFinder.onTagsReloaded();
+        }
+    }
+
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
         boolean tickingNormally = event.getServer().tickRateManager().runsNormally();
         FrequencyManager.tick(tickingNormally);
         RadiationManager.get().tickServer(tickingNormally);
+        VeinMiningManager.tick(event.getServer().getTickCount());
+        //Send any update packets that were requested during this tick
+        TileUpdateBatcher.flush(event.getServer().getTickCount());
+        MachineSleepStats.endTick();
     }
 
     @SubscribeEvent
@@ -36,6 +36,7 @@ import mekanism.common.content.evaporation.EvaporationValidator;
 import mekanism.common.content.gear.MekaSuitDispenseBehavior;
 import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
+import mekanism.common.content.gear.mekatool.VeinMiningManager;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
@@ -68,6 +69,7 @@ import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.network.to_client.transmitter.PacketChemicalNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
@@ -103,6 +105,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSlurryIngredientTypes;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
+import mekanism.common.tile.base.MachineSleepStats;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.util.RegistryUtils;
@@ -334,6 +337,9 @@ public class Mekanism {
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
+        TileUpdateBatcher.reset();
+        MachineSleepStats.reset();
+        VeinMiningManager.reset();
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
@@ -461,6 +467,7 @@ public class Mekanism {
         // when the server shuts down
         if (event.getLevel() instanceof ServerLevel level) {
             MekFakePlayer.releaseInstance(level);
+            TileUpdateBatcher.unload(level);
         }
         if (event.getLevel() instanceof Level level && MekanismConfig.general.validOredictionificatorFilters.hasInvalidationListeners()) {
             //Remove any invalidation listeners that loaded oredictionificators might have added if the OD was in the given level
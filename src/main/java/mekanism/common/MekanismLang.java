@@ -176,6 +176,10 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RADIATION_REDUCE_TARGET("command", "radiation.reduce.target"),
     COMMAND_RADIATION_REMOVE_ALL("command", "radiation.remove_all"),
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
+    COMMAND_STATS_PATHFINDER("command", "stats.pathfinder"),
+    COMMAND_STATS_MACHINES("command", "stats.machines"),
+    COMMAND_STATS_QIO("command", "stats.qio"),
+    COMMAND_STATS_QIO_NONE("command", "stats.qio.none"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
     //Transmission types
@@ -54,6 +54,11 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_RADIATION_REDUCE_OTHERS = nodeSubCommand(COMMAND_RADIATION_REDUCE, "others");
     public static final CommandPermissionNode COMMAND_RADIATION_REMOVE_ALL = nodeSubCommand(COMMAND_RADIATION, "remove.all");
 
+    public static final CommandPermissionNode COMMAND_STATS = nodeOpCommand("stats");
+    public static final CommandPermissionNode COMMAND_STATS_PATHFINDER = nodeSubCommand(COMMAND_STATS, "pathfinder");
+    public static final CommandPermissionNode COMMAND_STATS_MACHINES = nodeSubCommand(COMMAND_STATS, "machines");
+    public static final CommandPermissionNode COMMAND_STATS_QIO = nodeSubCommand(COMMAND_STATS, "qio");
+
     public static final CommandPermissionNode COMMAND_TEST_RULES = nodeOpCommand("test_rules");
     public static final CommandPermissionNode COMMAND_TP = nodeOpCommand("tp");
     public static final CommandPermissionNode COMMAND_TP_POP = nodeOpCommand("tp_pop");
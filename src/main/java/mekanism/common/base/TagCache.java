@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,6 +48,9 @@ public final class TagCache {
     private static final Map<String, List<ItemStack>> itemModIDStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<String, MatchingStacks> blockModIDStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<Block, List<String>> tileEntityTypeTagCache = new IdentityHashMap<>();
+    //Note: These are concurrent as item tags are looked up from both the client and the integrated server
+    private static final Map<Item, List<String>> itemTagCache = new ConcurrentHashMap<>();
+    private static final Map<TagKey<?>, String> tagNames = new ConcurrentHashMap<>();
 
     private static final Object2BooleanMap<String> blockTagBlacklistedElements = new Object2BooleanOpenHashMap<>();
     private static final Object2BooleanMap<String> modIDBlacklistedElements = new Object2BooleanOpenHashMap<>();
@@ -55,13 +59,22 @@ public final class TagCache {
         blockTagStacks.clear();
         itemTagStacks.clear();
         tileEntityTypeTagCache.clear();
+        itemTagCache.clear();
+        tagNames.clear();
         //These maps have the boolean value be based on if an element is in a given tag
         blockTagBlacklistedElements.clear();
         modIDBlacklistedElements.clear();
     }
 
+    /**
+     * @apiNote The returned list is cached per item until tags are reloaded, and should not be modified.
+     */
     public static List<String> getItemTags(@NotNull ItemStack check) {
-        return getTagsAsStrings(check.getTags());
+        //Note: The tags of a stack only depend on its item and not on any of its components
+        return itemTagCache.computeIfAbsent(check.getItem(), item -> check.getTags()
+              //Share the same string between all items that have a given tag
+              .map(tag -> tagNames.computeIfAbsent(tag, key -> key.location().toString()))
+              .toList());
     }
 
     public static List<String> getTileEntityTypeTags(@NotNull Block block) {
@@ -10,6 +10,7 @@ import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -49,6 +50,15 @@ public class BasicEnergyContainer implements IEnergyContainer {
     }
 
     private FloatingLong stored = FloatingLong.ZERO;
+    /**
+     * Scratch accumulators reused by {@link #insert(FloatingLong, Action, AutomationType)} so that inserting doesn't have to create new objects for intermediary values.
+     */
+    private final FloatingLongAccumulator toAdd = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator remainder = new FloatingLongAccumulator();
+    /**
+     * Scratch accumulator reused by {@link #consume(FloatingLongAccumulator, AutomationType)}.
+     */
+    private final FloatingLongAccumulator toRemove = new FloatingLongAccumulator();
     protected final Predicate<@NotNull AutomationType> canExtract;
     protected final Predicate<@NotNull AutomationType> canInsert;
     private final FloatingLong maxEnergy;
@@ -121,19 +131,29 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !canInsert.test(automationType)) {
             return amount;
         }
-        FloatingLong needed = getInsertRate(automationType).min(getNeeded());
-        if (needed.isZero()) {
+        //Calculate how much we can accept in place, so that we only have to create a new object for the remainder if there is one
+        // Note: We finish using the scratch accumulators before calling onContentsChanged in case the listener inserts into this container again
+        toAdd.set(getMaxEnergy()).subtract(stored).clampMax(getInsertRate(automationType));
+        if (toAdd.isZero()) {
             //Fail if we are a full container or our rate is zero
             return amount;
+        } else if (!toAdd.smallerThan(amount)) {
+            //We can accept all the energy
+            if (action.execute()) {
+                //Note: this also will mark that the contents changed
+                stored = stored.plusEqual(amount);
+                onContentsChanged();
+            }
+            return FloatingLong.ZERO;
         }
-        FloatingLong toAdd = amount.min(needed);
-        if (!toAdd.isZero() && action.execute()) {
+        FloatingLong remaining = remainder.set(amount).subtract(toAdd).toFloatingLong();
+        if (action.execute()) {
             //If we want to actually insert the energy, then update the current energy
             // Note: this also will mark that the contents changed
             stored = stored.plusEqual(toAdd);
             onContentsChanged();
         }
-        return amount.subtract(toAdd);
+        return remaining;
     }
 
     @Override
@@ -150,6 +170,25 @@ public class BasicEnergyContainer implements IEnergyContainer {
         return ret;
     }
 
+    @Override
+    public void consume(FloatingLong amount, AutomationType automationType) {
+        consume(toRemove.set(amount), automationType);
+    }
+
+    @Override
+    public void consume(FloatingLongAccumulator amount, AutomationType automationType) {
+        if (isEmpty() || amount.isZero() || !canExtract.test(automationType)) {
+            return;
+        }
+        //Unlike extract we don't have to return how much we removed, so we can subtract it in place without copying it
+        // Note: We finish using the scratch accumulator before calling onContentsChanged in case the listener extracts from this container again
+        toRemove.set(amount).clampMax(getExtractRate(automationType));
+        if (!toRemove.isZero()) {
+            stored = stored.minusEqual(toRemove);
+            onContentsChanged();
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
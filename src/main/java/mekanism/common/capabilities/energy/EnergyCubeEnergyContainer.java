@@ -6,6 +6,7 @@ import mekanism.api.AutomationType;
 import mekanism.api.IContentsListener;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.common.tier.EnergyCubeTier;
 import org.jetbrains.annotations.Nullable;
@@ -49,4 +50,12 @@ public class EnergyCubeEnergyContainer extends BasicEnergyContainer {
     public FloatingLong extract(FloatingLong amount, Action action, AutomationType automationType) {
         return super.extract(amount, action.combine(!isCreative), automationType);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void consume(FloatingLongAccumulator amount, AutomationType automationType) {
+        //Note: We only need to override the accumulator variant as consuming a floating long delegates to it
+        if (!isCreative) {
+            super.consume(amount, automationType);
+        }
+    }
+}
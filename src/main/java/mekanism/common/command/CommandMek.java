@@ -42,6 +42,7 @@ public class CommandMek {
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
               .then(RadiationCommand.register())
+              .then(StatsCommand.register())
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register());
@@ -0,0 +1,68 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOItemViewerSession.ViewerStats;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
+import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.tile.base.MachineSleepStats;
+import mekanism.common.tile.base.MachineSleepStats.SleepStats;
+import mekanism.common.util.text.TextUtils;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.server.level.ServerPlayer;
+
+public class StatsCommand {
+
+    private StatsCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("stats")
+              .requires(MekanismPermissions.COMMAND_STATS)
+              .then(Commands.literal("pathfinder")
+                    .requires(MekanismPermissions.COMMAND_STATS_PATHFINDER)
+                    .executes(ctx -> {
+                        CacheStats stats = PathfinderCache.getStats();
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_STATS_PATHFINDER.translateColored(EnumColor.GRAY, TextUtils.format(stats.entries()),
+                              TextUtils.getPercent(stats.hitRate()), TextUtils.format(stats.hits()), TextUtils.format(stats.misses()),
+                              TextUtils.format(stats.evictions())), false);
+                        return 0;
+                    })
+              ).then(Commands.literal("machines")
+                    .requires(MekanismPermissions.COMMAND_STATS_MACHINES)
+                    .executes(ctx -> {
+                        SleepStats stats = MachineSleepStats.getStats();
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_STATS_MACHINES.translateColored(EnumColor.GRAY, TextUtils.format(stats.awake()),
+                              TextUtils.format(stats.sleeping()), TextUtils.getPercent(stats.sleepingRate()), TextUtils.format(stats.skippedTicks())), false);
+                        return 0;
+                    })
+              ).then(Commands.literal("qio")
+                    .requires(MekanismPermissions.COMMAND_STATS_QIO)
+                    .executes(ctx -> {
+                        CommandSourceStack source = ctx.getSource();
+                        int viewers = 0;
+                        for (ServerPlayer player : source.getServer().getPlayerList().getPlayers()) {
+                            if (player.containerMenu instanceof QIOItemViewerContainer container) {
+                                QIOFrequency frequency = container.getFrequency();
+                                ViewerStats stats = frequency == null ? null : frequency.getViewerStats(player);
+                                if (stats != null) {
+                                    viewers++;
+                                    source.sendSuccess(() -> MekanismLang.COMMAND_STATS_QIO.translateColored(EnumColor.GRAY, player.getDisplayName(),
+                                          TextUtils.format(stats.updates()), TextUtils.format(stats.typesSent()), TextUtils.format(stats.changesSent()),
+                                          TextUtils.format(stats.changeBytes()), TextUtils.format(stats.syncNanos() / 1_000_000D)), false);
+                                }
+                            }
+                        }
+                        if (viewers == 0) {
+                            source.sendSuccess(() -> MekanismLang.COMMAND_STATS_QIO_NONE.translateColored(EnumColor.GRAY), false);
+                        }
+                        return viewers;
+                    })
+              );
+    }
+}
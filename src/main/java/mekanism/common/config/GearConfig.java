@@ -37,6 +37,8 @@ public class GearConfig extends BaseMekanismConfig {
     public final CachedFloatingLongValue disassemblerEnergyUsage;
     public final CachedFloatingLongValue disassemblerEnergyUsageWeapon;
     public final CachedIntValue disassemblerMiningCount;
+    public final CachedIntValue veinMiningSearchRate;
+    public final CachedIntValue veinMiningBreakRate;
     public final CachedBooleanValue disassemblerSlowMode;
     public final CachedBooleanValue disassemblerFastMode;
     public final CachedBooleanValue disassemblerVeinMining;
@@ -141,6 +143,10 @@ public class GearConfig extends BaseMekanismConfig {
               "energyUsageWeapon", FloatingLong.createConst(2_000));
         disassemblerMiningCount = CachedIntValue.wrap(this, builder.comment("The max Atomic Disassembler Vein Mining Block Count.")
               .defineInRange("miningCount", 128, 2, 1_000_000));
+        veinMiningSearchRate = CachedIntValue.wrap(this, builder.comment("The max number of positions each player's vein mining checks per tick when searching for blocks to mine. Applies to both the Atomic Disassembler and the Meka-Tool.")
+              .defineInRange("miningSearchRate", 2_048, 27, 1_000_000));
+        veinMiningBreakRate = CachedIntValue.wrap(this, builder.comment("The max number of blocks each player's vein mining breaks per tick. Applies to both the Atomic Disassembler and the Meka-Tool.")
+              .defineInRange("miningBreakRate", 64, 1, 1_000_000));
         disassemblerSlowMode = CachedBooleanValue.wrap(this, builder.comment("Enable the 'Slow' mode for the Atomic Disassembler.")
               .define("slowMode", true));
         disassemblerFastMode = CachedBooleanValue.wrap(this, builder.comment("Enable the 'Fast' mode for the Atomic Disassembler.")
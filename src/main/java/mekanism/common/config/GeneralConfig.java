@@ -40,6 +40,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSPORTER_CATEGORY = "logistical_transporter";
+    private static final String CABLE_CATEGORY = "universal_cable";
 
     private final ModConfigSpec configSpec;
 
@@ -59,6 +61,10 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue maxSolarNeutronActivatorRate;
     public final CachedIntValue fluidItemFillRate;
     public final CachedLongValue chemicalItemFillRate;
+    public final CachedIntValue containerSyncInterval;
+    public final CachedIntValue tileUpdateInterval;
+    public final CachedBooleanValue machineSleep;
+    public final CachedIntValue qioViewerSyncInterval;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -88,6 +94,10 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedLongValue radioactiveWasteBarrelMaxGas;
     public final CachedIntValue radioactiveWasteBarrelProcessTicks;
     public final CachedLongValue radioactiveWasteBarrelDecayAmount;
+    //Universal Cable
+    public final CachedIntValue energyAcceptorIdleTicks;
+    //Logistical Transporter
+    public final CachedIntValue transporterPathCacheSize;
     //Digital Miner
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
@@ -169,6 +179,14 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("fluidItemFillRate", 1_024, 1, Integer.MAX_VALUE));
         chemicalItemFillRate = CachedLongValue.wrap(this, builder.comment("Rate at which generic chemical storage items can be filled or emptied.")
               .defineInRange("chemicalItemFillRate", 1_024, 1, Long.MAX_VALUE));
+        containerSyncInterval = CachedIntValue.wrap(this, builder.comment("How often in ticks to check open Mekanism GUIs for changed values to sync to the player. Increasing this reduces the cost of players having GUIs open at the cost of the values in them updating less smoothly.")
+              .defineInRange("containerSyncInterval", 1, 1, SharedConstants.TICKS_PER_SECOND));
+        tileUpdateInterval = CachedIntValue.wrap(this, builder.comment("Minimum number of ticks between update packets sent for a single block, for things such as its active state or rendered contents. Updates requested in between are combined and sent once the interval is up.")
+              .defineInRange("tileUpdateInterval", 1, 1, SharedConstants.TICKS_PER_SECOND));
+        machineSleep = CachedBooleanValue.wrap(this, builder.comment("Allow machines that are unable to process their current recipe to skip most of their tick until something about them changes. Sleeping machines still check once per second for changes they don't get notified about.")
+              .define("machineSleep", true));
+        qioViewerSyncInterval = CachedIntValue.wrap(this, builder.comment("Minimum number of ticks between updates sent to players viewing the items in a QIO frequency. Changes made in between are combined into a single update.")
+              .defineInRange("qioViewerSyncInterval", 2, 1, SharedConstants.TICKS_PER_SECOND));
 
         builder.comment("Dynamic Tank Settings").push(DYNAMIC_TANK);
         int maxVolume = 18 * 18 * 18;
@@ -237,6 +255,16 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("radioactiveWasteBarrelDecayAmount", 1, 0, Long.MAX_VALUE));
         builder.pop();
 
+        builder.comment("Universal Cable Settings").push(CABLE_CATEGORY);
+        energyAcceptorIdleTicks = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks an energy network waits before checking a connected block that didn't need any energy again. The wait starts at one tick and doubles each time the block still doesn't need any. Set to zero to check every connected block every tick.")
+              .defineInRange("acceptorIdleTicks", 10, 0, SharedConstants.TICKS_PER_MINUTE));
+        builder.pop();
+
+        builder.comment("Logistical Transporter Settings").push(TRANSPORTER_CATEGORY);
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of path trees each logistical transporter network caches. Each tree holds the paths from one starting transporter to every destination for a given color. The least recently used trees are removed once the limit is reached.")
+              .defineInRange("pathCacheSize", 64, 1, 4_096));
+        builder.pop();
+
         builder.comment("Digital Miner Settings").push(MINER_CATEGORY);
         minerSilkMultiplier = CachedIntValue.wrap(this, builder.comment("Energy multiplier for using silk touch mode with the Digital Miner.")
               .defineInRange("silkMultiplier", 12, 1, Integer.MAX_VALUE));
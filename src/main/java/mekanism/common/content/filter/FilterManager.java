@@ -6,12 +6,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import mekanism.api.SerializationConstants;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.list.SyncableFilterList;
 import mekanism.common.lib.collection.HashList;
+import mekanism.common.lib.inventory.Finder;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
@@ -29,6 +31,11 @@ public class FilterManager<FILTER extends IFilter<?>> {
     protected HashList<FILTER> filters = new HashList<>();
     @Nullable
     protected List<FILTER> enabledFilters = null;
+    @Nullable
+    private Finder enabledFinder;
+    @Nullable
+    private List<FILTER> enabledFinderSource;
+    private int enabledFinderSize;
 
     public FilterManager(Class<? extends FILTER> filterClass, Runnable markForSave) {
         this.filterClass = filterClass;
@@ -70,6 +77,30 @@ public class FilterManager<FILTER extends IFilter<?>> {
         return false;
     }
 
+    /**
+     * Gets a single finder that matches stacks that are matched by any of the enabled filters. The finder is kept until the enabled filters change, so that the work of
+     * combining the filters and the results it remembers for the items it has tested can be reused.
+     *
+     * @param finderGetter Gets the finder for a filter, or {@code null} if the filter should not be included. Should always return the same result for a given filter.
+     */
+    public Finder getEnabledFinder(Function<FILTER, @Nullable Finder> finderGetter) {
+        List<FILTER> enabled = getEnabledFilters();
+        //Note: The enabled filters are replaced by a new list whenever they change other than when a filter gets added to the end of them
+        if (enabledFinder == null || enabledFinderSource != enabled || enabledFinderSize != enabled.size()) {
+            List<Finder> finders = new ArrayList<>(enabled.size());
+            for (FILTER filter : enabled) {
+                Finder finder = finderGetter.apply(filter);
+                if (finder != null) {
+                    finders.add(finder);
+                }
+            }
+            enabledFinder = Finder.anyOf(finders);
+            enabledFinderSource = enabled;
+            enabledFinderSize = enabled.size();
+        }
+        return enabledFinder;
+    }
+
     public boolean hasEnabledFilters() {
         return !getEnabledFilters().isEmpty();
     }
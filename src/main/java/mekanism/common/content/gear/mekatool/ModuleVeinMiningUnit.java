@@ -3,16 +3,8 @@ package mekanism.common.content.gear.mekatool;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
-import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import mekanism.api.SerializationConstants;
@@ -37,12 +29,7 @@ import mekanism.common.MekanismLang;
 import mekanism.common.block.BlockBounding;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.item.gear.ItemAtomicDisassembler.DisassemblerMode;
-import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.PacketLightningRender;
-import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
 import mekanism.common.util.MekanismUtils;
-import mekanism.common.util.WorldUtils;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
@@ -52,8 +39,6 @@ import net.minecraft.util.ByIdMap;
 import net.minecraft.util.StringRepresentable;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -133,49 +118,6 @@ public record ModuleVeinMiningUnit(boolean extended, ExcavationRange excavationR
         return !(state.getBlock() instanceof BlockBounding);
     }
 
-    public static Object2IntMap<BlockPos> findPositions(Level world, Map<BlockPos, BlockState> initial, int extendedRange, Reference2BooleanMap<Block> oreTracker) {
-        Object2IntMap<BlockPos> found = new Object2IntLinkedOpenHashMap<>();
-
-        int maxVein = MekanismConfig.gear.disassemblerMiningCount.get();
-        int maxCount = initial.size() + maxVein * oreTracker.size();
-
-        Map<BlockPos, BlockState> frontier = new LinkedHashMap<>(initial);
-        TraversalDistance dist = new TraversalDistance(frontier.size());
-        while (!frontier.isEmpty()) {
-            Iterator<Entry<BlockPos, BlockState>> iterator = frontier.entrySet().iterator();
-            Entry<BlockPos, BlockState> blockEntry = iterator.next();
-            iterator.remove();
-
-            BlockPos blockPos = blockEntry.getKey();
-            found.put(blockPos, dist.getDistance());
-            if (found.size() >= maxCount) {
-                break;
-            }
-
-            Block block = blockEntry.getValue().getBlock();
-            boolean isOre = oreTracker.getBoolean(block);
-            //If it is extended or should be treated as an ore
-            if (isOre || extendedRange > dist.getDistance()) {
-                for (BlockPos nextPos : BlockPos.betweenClosed(blockPos.offset(-1, -1, -1), blockPos.offset(1, 1, 1))) {
-                    //We can check contains as mutable
-                    if (!found.containsKey(nextPos) && !frontier.containsKey(nextPos)) {
-                        Optional<BlockState> nextState = WorldUtils.getBlockState(world, nextPos);
-                        if (nextState.isPresent() && nextState.get().is(block)) {
-                            //Make sure to add it as immutable
-                            frontier.put(nextPos.immutable(), nextState.get());
-                            //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
-                            // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
-                            PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, nextPos),
-                                  blockPos.getCenter(), nextPos.getCenter(), 10), world, blockPos);
-                        }
-                    }
-                }
-            }
-            dist.updateDistance(found.size(), frontier.size());
-        }
-        return found;
-    }
-
     @Override
     public void addHUDStrings(IModule<ModuleVeinMiningUnit> module, IModuleContainer moduleContainer, ItemStack stack, Player player, Consumer<Component> hudStringAdder) {
         //Only add hud string for extended vein mining if enabled in config
@@ -223,31 +165,6 @@ public record ModuleVeinMiningUnit(boolean extended, ExcavationRange excavationR
         }
     }
 
-    // Helper class to help calculate the breadth first traversal path distance
-    private static class TraversalDistance {
-
-        // Start at distance 0
-        private int distance = 0;
-        private int next;
-
-        // Initialize with the number of elements at distance 0
-        public TraversalDistance(int next) {
-            this.next = next;
-        }
-
-        // When all elements at distance 0 are found, determine how many elements there are with distance 1 and increment distance
-        public void updateDistance(int found, int frontierSize) {
-            if (found == next) {
-                distance++;
-                next += frontierSize;
-            }
-        }
-
-        public int getDistance() {
-            return distance;
-        }
-    }
-
     @NothingNullByDefault
     public static class ModuleExtendedModeConfig extends ModuleBooleanConfig {
 
@@ -0,0 +1,88 @@
+package mekanism.common.content.gear.mekatool;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.util.StorageUtils;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Runs the vein mining of each player over multiple ticks, searching a limited number of positions and then breaking a limited number of the found blocks each tick
+ * so that mining a huge vein, or many players vein mining at once, can't stall the server.
+ */
+public class VeinMiningManager {
+
+    private VeinMiningManager() {
+    }
+
+    private static final Map<UUID, VeinMiningJob> activeJobs = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Starts vein mining for the given player, replacing any vein mining they had that hadn't finished yet. As much of the search and breaking as the per tick limits
+     * allow is done immediately, so small veins still get mined right away.
+     */
+    public static void start(ServerPlayer player, ItemStack stack, VeinMiningSearch search, VeinBreaker breaker) {
+        VeinMiningJob job = new VeinMiningJob(player, stack, search, breaker, player.server.getTickCount());
+        if (job.tick(true)) {
+            activeJobs.remove(player.getUUID());
+        } else {
+            activeJobs.put(player.getUUID(), job);
+        }
+    }
+
+    public static void cancel(UUID player) {
+        activeJobs.remove(player);
+    }
+
+    public static void tick(int tickCount) {
+        if (!activeJobs.isEmpty()) {
+            for (Iterator<VeinMiningJob> iterator = activeJobs.values().iterator(); iterator.hasNext(); ) {
+                VeinMiningJob job = iterator.next();
+                //Skip jobs that were started this tick as they already got to use their limits
+                if (job.startTick != tickCount && job.tick(false)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        activeJobs.clear();
+    }
+
+    @FunctionalInterface
+    public interface VeinBreaker {
+
+        /**
+         * Breaks up to the given number of the blocks found by the search.
+         *
+         * @param swingTick {@code true} if this is being called on the same tick the player broke the block that started the vein mining.
+         *
+         * @return {@code true} if there are still found blocks left to break.
+         */
+        boolean breakBlocks(IEnergyContainer energyContainer, VeinMiningSearch search, int maxBlocks, boolean swingTick);
+    }
+
+    private record VeinMiningJob(ServerPlayer player, ItemStack stack, VeinMiningSearch search, VeinBreaker breaker, int startTick) {
+
+        /**
+         * @param swingTick {@code true} if this is being called on the same tick the player broke the block that started the vein mining.
+         *
+         * @return {@code true} if the job is finished or can no longer continue.
+         */
+        private boolean tick(boolean swingTick) {
+            //Stop if the player is gone, changed dimensions, or is no longer holding the tool they started vein mining with
+            if (player.isRemoved() || player.level() != search.getWorld() || player.getMainHandItem() != stack) {
+                return true;
+            } else if (!search.isComplete() && !search.search(MekanismConfig.gear.veinMiningSearchRate.get())) {
+                return false;
+            }
+            IEnergyContainer energyContainer = StorageUtils.getEnergyContainer(stack, 0);
+            return energyContainer == null || !breaker.breakBlocks(energyContainer, search, MekanismConfig.gear.veinMiningBreakRate.get(), swingTick);
+        }
+    }
+}
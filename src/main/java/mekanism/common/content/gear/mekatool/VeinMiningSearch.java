@@ -0,0 +1,156 @@
+package mekanism.common.content.gear.mekatool;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.PacketLightningRender;
+import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Breadth first search for the blocks to vein mine that can be continued across multiple ticks, only checking a limited number of positions each time it is continued.
+ * Positions are tracked packed into longs, and once the search is complete the found blocks can be broken a few at a time in the order they were found.
+ */
+public class VeinMiningSearch {
+
+    private final Level world;
+    private final int extendedRange;
+    private final Reference2BooleanMap<Block> oreTracker;
+    private final int maxCount;
+
+    /**
+     * Positions that have been found, in the order they were found, and how far they are from the initial blocks.
+     */
+    private final Long2IntLinkedOpenHashMap found = new Long2IntLinkedOpenHashMap();
+    private final Long2ReferenceMap<Block> foundBlocks = new Long2ReferenceOpenHashMap<>();
+    /**
+     * Positions that have either been found or are in the frontier waiting to be found, so that we don't add them to the frontier more than once.
+     */
+    private final LongSet visited = new LongOpenHashSet();
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+    private final IntArrayFIFOQueue frontierDistances = new IntArrayFIFOQueue();
+    private final ObjectArrayFIFOQueue<Block> frontierBlocks = new ObjectArrayFIFOQueue<>();
+    private final BlockPos.MutableBlockPos nextPos = new BlockPos.MutableBlockPos();
+    private boolean complete;
+    @Nullable
+    private ObjectIterator<Long2IntMap.Entry> toBreak;
+
+    public VeinMiningSearch(Level world, Map<BlockPos, BlockState> initial, int extendedRange, Reference2BooleanMap<Block> oreTracker) {
+        this.world = world;
+        this.extendedRange = extendedRange;
+        this.oreTracker = oreTracker;
+        this.maxCount = initial.size() + MekanismConfig.gear.disassemblerMiningCount.get() * oreTracker.size();
+        for (Map.Entry<BlockPos, BlockState> entry : initial.entrySet()) {
+            long pos = entry.getKey().asLong();
+            if (visited.add(pos)) {
+                addToFrontier(pos, 0, entry.getValue().getBlock());
+            }
+        }
+        complete = frontier.isEmpty();
+    }
+
+    private void addToFrontier(long pos, int distance, Block block) {
+        frontier.enqueue(pos);
+        frontierDistances.enqueue(distance);
+        frontierBlocks.enqueue(block);
+    }
+
+    public Level getWorld() {
+        return world;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean isEmpty() {
+        return complete && found.isEmpty();
+    }
+
+    /**
+     * Continues the search until it either completes, or it has checked the given number of positions.
+     *
+     * @param budget Number of positions to check before stopping. This may be slightly exceeded as all the neighbors of a found block are checked at once.
+     *
+     * @return {@code true} if the search is complete.
+     */
+    public boolean search(int budget) {
+        int checked = 0;
+        while (!complete && checked < budget) {
+            long pos = frontier.dequeueLong();
+            int distance = frontierDistances.dequeueInt();
+            Block block = frontierBlocks.dequeue();
+            found.put(pos, distance);
+            foundBlocks.put(pos, block);
+            if (found.size() >= maxCount) {
+                complete = true;
+                break;
+            }
+            //If it is extended or should be treated as an ore
+            if (oreTracker.getBoolean(block) || extendedRange > distance) {
+                BlockPos blockPos = BlockPos.of(pos);
+                for (int x = -1; x <= 1; x++) {
+                    for (int y = -1; y <= 1; y++) {
+                        for (int z = -1; z <= 1; z++) {
+                            long next = BlockPos.offset(pos, x, y, z);
+                            //Note: This also skips the position we are currently at, as it is in found
+                            if (!visited.contains(next)) {
+                                checked++;
+                                Optional<BlockState> nextState = WorldUtils.getBlockState(world, nextPos.set(next));
+                                if (nextState.isPresent() && nextState.get().is(block)) {
+                                    visited.add(next);
+                                    addToFrontier(next, distance + 1, block);
+                                    //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
+                                    // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
+                                    PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, nextPos),
+                                          blockPos.getCenter(), nextPos.getCenter(), 10), world, blockPos);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            if (frontier.isEmpty()) {
+                complete = true;
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * {@return the next found position and its distance from the initial blocks, or {@code null} if all found positions have been gone through} This should only be
+     * called after the search is complete.
+     */
+    @Nullable
+    public Long2IntMap.Entry nextToBreak() {
+        if (toBreak == null) {
+            toBreak = found.long2IntEntrySet().fastIterator();
+        }
+        return toBreak.hasNext() ? toBreak.next() : null;
+    }
+
+    /**
+     * {@return true if the given state is still the block that was found at the given position}
+     */
+    public boolean isFoundBlock(long pos, BlockState state) {
+        return state.is(foundBlocks.get(pos));
+    }
+}
@@ -2,6 +2,8 @@ package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Action;
@@ -23,6 +25,16 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
     private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
+    /**
+     * Cell containers in a stable order, so that we can keep track of which cell energy was last added to or removed from. Lazily rebuilt when the cells change.
+     */
+    private final List<IEnergyContainer> cellOrder = new ArrayList<>();
+    private boolean cellOrderDirty;
+    /**
+     * Index in {@link #cellOrder} of the cell energy was last added to or removed from. As we fill cells moving forward from it and drain them moving backward from it,
+     * the cells before it are generally full and the cells after it are generally empty, so we only have to touch the cells whose energy actually changes.
+     */
+    private int activeCell;
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
@@ -45,6 +57,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
         cells.put(pos, energyContainer);
+        cellOrderDirty = true;
         storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
         cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
     }
@@ -79,6 +92,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         tick();
         //And reset everything
         cells.clear();
+        cellOrder.clear();
+        cellOrderDirty = false;
+        activeCell = 0;
         providers.clear();
         queuedOutput = FloatingLong.ZERO;
         queuedInput = FloatingLong.ZERO;
@@ -92,7 +108,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void tick() {
         if (!invalidPositions.isEmpty()) {
             for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
+                if (cells.remove(invalidPosition) != null) {
+                    cellOrderDirty = true;
+                }
                 providers.remove(invalidPosition);
             }
             invalidPositions.clear();
@@ -111,16 +129,30 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         queuedOutput = FloatingLong.ZERO;
     }
 
+    private void updateCellOrder() {
+        if (cellOrderDirty) {
+            cellOrder.clear();
+            cellOrder.addAll(cells.values());
+            cellOrderDirty = false;
+            activeCell = 0;
+        }
+    }
+
     private void addEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.plusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        updateCellOrder();
+        int size = cellOrder.size();
+        //Start at the cell we last changed and move forward, wrapping around in case any earlier cells still have room
+        for (int i = 0; i < size; i++) {
+            int index = (activeCell + i) % size;
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            FloatingLong remainder = cellOrder.get(index).insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (remainder.smallerThan(energy)) {
                 //Our cell accepted at least some energy
                 if (remainder.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't have any energy left to add
+                    activeCell = index;
                     break;
                 }
                 energy = remainder;
@@ -130,14 +162,19 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void removeEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.minusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
+        updateCellOrder();
+        int size = cellOrder.size();
+        //Start at the cell we last changed and move backward, wrapping around in case any later cells still have energy
+        for (int i = 0; i < size; i++) {
+            int index = (activeCell - i + size) % size;
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            FloatingLong extracted = cellOrder.get(index).extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
             if (!extracted.isZero()) {
                 energy = energy.minusEqual(extracted);
                 if (energy.isZero()) {
                     //Check less than equal rather than just equal in case something went wrong
                     // and break if we don't need to remove any more energy
+                    activeCell = index;
                     break;
                 }
             }
@@ -151,6 +188,10 @@ public class MatrixEnergyContainer implements IEnergyContainer {
      */
     @Override
     public FloatingLong getEnergy() {
+        if (queuedInput.isZero() && queuedOutput.isZero()) {
+            //Skip creating new objects when nothing is queued, which is the case for anything that queries the energy outside our own tick such as comparators
+            return cachedTotal;
+        }
         return cachedTotal.add(queuedInput).subtract(queuedOutput);
     }
 
@@ -10,12 +10,14 @@ import mekanism.common.base.TagCache;
 import mekanism.common.content.filter.FilterType;
 import mekanism.common.content.filter.IModIDFilter;
 import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
 import mekanism.common.util.RegistryUtils;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
 public class MinerModIDFilter extends MinerFilter<MinerModIDFilter> implements IModIDFilter<MinerModIDFilter> {
 
@@ -32,6 +34,9 @@ public class MinerModIDFilter extends MinerFilter<MinerModIDFilter> implements I
     );
 
     private String modID;
+    //Note: Compiled lazily the first time the filter is checked
+    @Nullable
+    private CompiledWildcard wildcard;
 
     public MinerModIDFilter() {
     }
@@ -46,9 +51,18 @@ public class MinerModIDFilter extends MinerFilter<MinerModIDFilter> implements I
         modID = filter.modID;
     }
 
+    private CompiledWildcard getWildcard() {
+        CompiledWildcard wildcard = this.wildcard;
+        if (wildcard == null) {
+            this.wildcard = wildcard = WildcardMatcher.compile(modID);
+        }
+        return wildcard;
+    }
+
     @Override
     public boolean canFilter(BlockState state) {
-        return WildcardMatcher.matches(modID, RegistryUtils.getNamespace(state.getBlock()));
+        CompiledWildcard wildcard = getWildcard();
+        return wildcard.matches(RegistryUtils.getNamespace(state.getBlock()));
     }
 
     @Override
@@ -85,6 +99,7 @@ public class MinerModIDFilter extends MinerFilter<MinerModIDFilter> implements I
     @Override
     public void setModID(String id) {
         modID = id;
+        wildcard = null;
     }
 
     @Override
@@ -10,11 +10,13 @@ import mekanism.common.base.TagCache;
 import mekanism.common.content.filter.FilterType;
 import mekanism.common.content.filter.ITagFilter;
 import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
 public class MinerTagFilter extends MinerFilter<MinerTagFilter> implements ITagFilter<MinerTagFilter> {
 
@@ -31,6 +33,9 @@ public class MinerTagFilter extends MinerFilter<MinerTagFilter> implements ITagF
     );
 
     private String tagName;
+    //Note: Compiled lazily the first time the filter is checked
+    @Nullable
+    private CompiledWildcard wildcard;
 
     public MinerTagFilter() {
     }
@@ -45,9 +50,18 @@ public class MinerTagFilter extends MinerFilter<MinerTagFilter> implements ITagF
         tagName = filter.tagName;
     }
 
+    private CompiledWildcard getWildcard() {
+        CompiledWildcard wildcard = this.wildcard;
+        if (wildcard == null) {
+            this.wildcard = wildcard = WildcardMatcher.compile(tagName);
+        }
+        return wildcard;
+    }
+
     @Override
     public boolean canFilter(BlockState state) {
-        return state.getTags().anyMatch(tag -> WildcardMatcher.matches(tagName, tag));
+        CompiledWildcard wildcard = getWildcard();
+        return state.getTags().anyMatch(tag -> wildcard.matches(tag));
     }
 
     @Override
@@ -84,6 +98,7 @@ public class MinerTagFilter extends MinerFilter<MinerTagFilter> implements ITagF
     @Override
     public void setTagName(String name) {
         tagName = name;
+        wildcard = null;
     }
 
     @Override
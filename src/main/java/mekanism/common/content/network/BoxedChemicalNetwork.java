@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.chemical.Chemical;
@@ -57,6 +56,8 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @NotNull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    @Nullable
+    private ChemicalHandlerTarget<?, ?, ?> emitTarget;
 
     public BoxedChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -243,19 +244,31 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
+    @SuppressWarnings("unchecked")
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, BoxedChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, BoxedChemicalHandler> acceptors : acceptorValues) {
-            for (BoxedChemicalHandler acceptor : acceptors.values()) {
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target;
+        if (emitTarget == null) {
+            target = new ChemicalHandlerTarget<>(stack, acceptorCache.getAcceptorCount());
+            emitTarget = target;
+        } else {
+            //Note: This is safe as the target gets cleared after each use, so it never holds handlers for a different chemical type
+            target = (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emitTarget;
+            target.reset(stack);
+        }
+        for (int slot = 0, slots = acceptorCache.getSlotCount(); slot < slots; slot++) {
+            BoxedChemicalHandler acceptor = acceptorCache.getAcceptor(slot);
+            if (acceptor != null) {
                 IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
                 if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
                     target.addHandler(handler);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        long sent = EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        //Release the references to the handlers until the next time we emit
+        target.clear();
+        return sent;
     }
 
     @Override
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -11,10 +10,12 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
-import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.network.distribution.CachedEnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
@@ -32,6 +33,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    /**
+     * Scratch accumulator reused by {@link #updateCapacity()} so that summing the capacity doesn't have to create new objects.
+     */
+    private final FloatingLongAccumulator capacitySum = new FloatingLongAccumulator();
+    @Nullable
+    private CachedEnergyAcceptorTarget emitTarget;
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -101,12 +108,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        capacitySum.setZero();
         for (UniversalCable transmitter : getTransmitters()) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            capacitySum.add(transmitter.getCapacityAsFloatingLong());
         }
-        if (!floatingLongCapacity.equals(sum)) {
-            floatingLongCapacity = sum;
+        if (!capacitySum.valueEquals(floatingLongCapacity)) {
+            floatingLongCapacity = capacitySum.toFloatingLong();
             capacity = floatingLongCapacity.longValue();
         }
     }
@@ -127,16 +134,18 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
-            for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                    target.addHandler(acceptor);
-                }
-            }
+        if (emitTarget == null) {
+            emitTarget = new CachedEnergyAcceptorTarget();
+        }
+        int acceptorVersion = acceptorCache.getVersion();
+        if (emitTarget.needsRebuild(acceptorVersion)) {
+            emitTarget.rebuild(acceptorCache, acceptorVersion);
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+        emitTarget.prepare(energyToSend, MekanismConfig.general.energyAcceptorIdleTicks.get());
+        FloatingLong sent = EmitUtils.sendToAcceptors(emitTarget, energyToSend.copy());
+        //Don't hold onto the handlers we sent to this tick
+        emitTarget.clear();
+        return sent;
     }
 
     @Override
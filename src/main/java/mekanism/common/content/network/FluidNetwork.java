@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -36,6 +35,8 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    @Nullable
+    private FluidHandlerTarget emitTarget;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -150,16 +151,22 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
-            for (IFluidHandler acceptor : acceptors.values()) {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    target.addHandler(acceptor);
-                }
+        FluidHandlerTarget target = emitTarget;
+        if (target == null) {
+            target = emitTarget = new FluidHandlerTarget(fluidToSend, acceptorCache.getAcceptorCount());
+        } else {
+            target.reset(fluidToSend);
+        }
+        for (int slot = 0, slots = acceptorCache.getSlotCount(); slot < slots; slot++) {
+            IFluidHandler acceptor = acceptorCache.getAcceptor(slot);
+            if (acceptor != null && FluidUtils.canFill(acceptor, fluidToSend)) {
+                target.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        int sent = EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        //Release the references to the handlers until the next time we emit
+        target.clear();
+        return sent;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -20,6 +21,7 @@ import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.tile.interfaces.ISideConfiguration;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -32,6 +34,14 @@ import org.jetbrains.annotations.NotNull;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * Transporters that have stacks in flight or may pull from adjacent inventories. Any other transporters in the network are idle and don't need to be updated until
+     * they are {@link LogisticalTransporterBase#wake() woken}.
+     */
+    private final Set<LogisticalTransporterBase> scheduledTransporters = new ObjectLinkedOpenHashSet<>();
+    private final List<LogisticalTransporterBase> updatingTransporters = new ArrayList<>();
+    private int pathGeneration;
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -44,15 +54,20 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Map.Entry<BlockPos, Map<Direction, IItemHandler>> entry : acceptorCache.getAcceptorEntrySet()) {
-            BlockPos pos = entry.getKey();
-            if (!pos.equals(stack.homeLocation)) {
+        boolean hasHome = stack.homeLocation != null;
+        long homeKey = hasHome ? stack.homeLocation.asLong() : 0;
+        for (int baseSlot = 0, slots = acceptorCache.getSlotCount(); baseSlot < slots; baseSlot += EnumUtils.DIRECTIONS.length) {
+            long posKey = acceptorCache.getAcceptorPosition(baseSlot);
+            if (!hasHome || posKey != homeKey) {
+                BlockPos pos = BlockPos.of(posKey);
                 BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
                 Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
                 GlobalPos position = GlobalPos.of(getWorld().dimension(), pos);
-                for (Map.Entry<Direction, IItemHandler> acceptorEntry : entry.getValue().entrySet()) {
-                    IItemHandler handler = acceptorEntry.getValue();
-                    Direction side = acceptorEntry.getKey();
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    IItemHandler handler = acceptorCache.getAcceptor(baseSlot + side.ordinal());
+                    if (handler == null) {
+                        continue;
+                    }
                     //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
                     // actually need to even query the TE
                     if (acceptor instanceof ISideConfiguration config) {
@@ -91,6 +106,53 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    /**
+     * @return Counter that changes whenever the layout of the network changes in a way that may invalidate any cached paths.
+     */
+    public int getPathGeneration() {
+        return pathGeneration;
+    }
+
+    public void incrementPathGeneration() {
+        pathGeneration++;
+    }
+
+    public void scheduleUpdate(LogisticalTransporterBase transporter) {
+        scheduledTransporters.add(transporter);
+    }
+
+    @Override
+    public void onUpdate() {
+        super.onUpdate();
+        if (!scheduledTransporters.isEmpty()) {
+            //Copy the scheduled transporters, as updating one transporter may wake up the next one in the path
+            updatingTransporters.addAll(scheduledTransporters);
+            try {
+                for (LogisticalTransporterBase transporter : updatingTransporters) {
+                    if (transporter.getTransmitterNetwork() != this || !transporter.isValid()) {
+                        //The transporter has been removed from the network since it was scheduled
+                        scheduledTransporters.remove(transporter);
+                    } else if (transporter.getLevel().shouldTickBlocksAt(transporter.getBlockPos())) {
+                        //Note: We only update transporters in chunks that would have block entities ticking, as that is when they were updated before
+                        transporter.onUpdateServer();
+                        if (!transporter.needsUpdate()) {
+                            scheduledTransporters.remove(transporter);
+                        }
+                    }
+                }
+            } finally {
+                updatingTransporters.clear();
+            }
+        }
+    }
+
+    @Override
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        List<LogisticalTransporterBase> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
+        scheduledTransporters.addAll(net.scheduledTransporters);
+        return transmittersToUpdate;
+    }
+
     @Override
     public void commit() {
         super.commit();
@@ -98,9 +160,16 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         PathfinderCache.onChanged(this);
     }
 
+    @Override
+    protected void onTransmittersRemoved() {
+        super.onTransmittersRemoved();
+        PathfinderCache.onChanged(this);
+    }
+
     @Override
     public void deregister() {
         super.deregister();
+        scheduledTransporters.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
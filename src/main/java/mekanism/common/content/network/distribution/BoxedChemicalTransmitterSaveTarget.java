@@ -6,13 +6,12 @@ import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.ChemicalType;
 import mekanism.api.chemical.merged.BoxedChemicalStack;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.util.ChemicalUtil;
 import org.jetbrains.annotations.NotNull;
 
 public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>>
-      extends Target<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler, Long, @NotNull STACK> {
+      extends LongTarget<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler, @NotNull STACK> {
 
     public BoxedChemicalTransmitterSaveTarget(@NotNull STACK empty, @NotNull STACK type, Collection<BoxedPressurizedTube> transmitters) {
         super(transmitters.size());
@@ -23,18 +22,18 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
     }
 
     @Override
-    protected void acceptAmount(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, SplitInfo<Long> splitInfo, Long amount) {
-        handler.acceptAmount(splitInfo, amount);
+    protected long acceptAmount(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, long amount) {
+        return handler.acceptAmount(amount);
     }
 
     @Override
-    protected Long simulate(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, @NotNull STACK chemicalStack) {
+    protected long simulate(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, @NotNull STACK chemicalStack) {
         return handler.simulate(chemicalStack);
     }
 
     public void saveShare() {
-        for (SaveHandler handler : handlers) {
-            handler.saveShare();
+        for (int i = 0, handlerCount = getHandlerCount(); i < handlerCount; i++) {
+            getHandler(i).saveShare();
         }
     }
 
@@ -48,19 +47,19 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Long> splitInfo, Long amount) {
+        protected long acceptAmount(long amount) {
             amount = Math.min(amount, transmitter.getCapacity() - currentStored.getAmount());
             if (currentStored.isEmpty()) {
                 currentStored = ChemicalUtil.copyWithAmount(extra, amount);
             } else {
                 currentStored.grow(amount);
             }
-            splitInfo.send(amount);
+            return amount;
         }
 
-        protected Long simulate(@NotNull STACK chemicalStack) {
+        protected long simulate(@NotNull STACK chemicalStack) {
             if (!currentStored.isEmpty() && !ChemicalStack.isSameChemical(currentStored, chemicalStack)) {
-                return 0L;
+                return 0;
             }
             return Math.min(chemicalStack.getAmount(), transmitter.getCapacity() - currentStored.getAmount());
         }
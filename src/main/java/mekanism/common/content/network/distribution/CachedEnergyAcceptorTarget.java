@@ -0,0 +1,104 @@
+package mekanism.common.content.network.distribution;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.content.network.distribution.CachedEnergyAcceptorTarget.CachedAcceptor;
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+
+/**
+ * Energy target that is kept by a network between ticks. The acceptors are only collected again when the network's acceptors change, each acceptor is only simulated
+ * once per tick, and acceptors that keep reporting they don't need any energy are checked again after a delay that grows each time.
+ */
+public class CachedEnergyAcceptorTarget extends Target<CachedAcceptor, FloatingLong, FloatingLong> {
+
+    private final List<CachedAcceptor> acceptors = new ArrayList<>();
+    private int acceptorVersion = -1;
+
+    public CachedEnergyAcceptorTarget() {
+        super(0);
+    }
+
+    public boolean needsRebuild(int version) {
+        return acceptorVersion != version;
+    }
+
+    /**
+     * Replaces the acceptors this target can send to.
+     *
+     * @param acceptorCache Acceptors in the network.
+     * @param version       Version of the acceptor cache the acceptors are from.
+     */
+    public void rebuild(NetworkAcceptorCache<IStrictEnergyHandler> acceptorCache, int version) {
+        acceptors.clear();
+        for (int slot = 0, slots = acceptorCache.getSlotCount(); slot < slots; slot++) {
+            IStrictEnergyHandler acceptor = acceptorCache.getAcceptor(slot);
+            if (acceptor != null) {
+                addAcceptor(acceptor);
+            }
+        }
+        acceptorVersion = version;
+    }
+
+    void addAcceptor(IStrictEnergyHandler acceptor) {
+        acceptors.add(new CachedAcceptor(acceptor));
+    }
+
+    /**
+     * Sets up the handlers for this tick, only adding acceptors that are awake and can accept part of the given energy.
+     *
+     * @param energyToSend Energy that is going to be sent.
+     * @param maxIdleTicks Maximum number of ticks to wait before checking an acceptor that didn't need any energy again, or zero to always check all acceptors.
+     */
+    public void prepare(FloatingLong energyToSend, int maxIdleTicks) {
+        clear();
+        for (CachedAcceptor acceptor : acceptors) {
+            if (acceptor.sleepTicks > 0) {
+                acceptor.sleepTicks--;
+                continue;
+            }
+            FloatingLong remainder = acceptor.handler.insertEnergy(energyToSend, Action.SIMULATE);
+            if (!remainder.smallerThan(energyToSend)) {
+                if (maxIdleTicks > 0) {
+                    //Start by skipping a single tick, and double how long we wait each time it still doesn't need anything so that an acceptor that
+                    // only briefly didn't need energy gets checked again right away, while one that stays full only rarely gets checked
+                    acceptor.backoffTicks = acceptor.backoffTicks == 0 ? 1 : Math.min(2 * acceptor.backoffTicks, maxIdleTicks);
+                    acceptor.sleepTicks = acceptor.backoffTicks;
+                }
+            } else {
+                acceptor.backoffTicks = 0;
+                acceptor.demand = energyToSend.subtract(remainder);
+                addHandler(acceptor);
+            }
+        }
+    }
+
+    @Override
+    protected void acceptAmount(CachedAcceptor acceptor, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+        splitInfo.send(amount.subtract(acceptor.handler.insertEnergy(amount, Action.EXECUTE)));
+    }
+
+    @Override
+    protected FloatingLong simulate(CachedAcceptor acceptor, FloatingLong energyToSend) {
+        //Use the demand we calculated when preparing for this tick rather than asking the handler again
+        // Note: If an earlier handler was for the same multiblock this may be more than it can currently accept,
+        // but only the amount that actually gets accepted is sent
+        return acceptor.demand;
+    }
+
+    public static class CachedAcceptor {
+
+        private final IStrictEnergyHandler handler;
+        private FloatingLong demand = FloatingLong.ZERO;
+        private int backoffTicks;
+        private int sleepTicks;
+
+        private CachedAcceptor(IStrictEnergyHandler handler) {
+            this.handler = handler;
+        }
+    }
+}
@@ -1,36 +1,37 @@
 package mekanism.common.content.network.distribution;
 
-import java.util.Collection;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntTarget;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull FluidStack> {
+public class FluidHandlerTarget extends IntTarget<IFluidHandler, @NotNull FluidStack> {
 
     public FluidHandlerTarget(@NotNull FluidStack type) {
         this.extra = type;
     }
 
-    public FluidHandlerTarget(@NotNull FluidStack type, Collection<IFluidHandler> allHandlers) {
-        super(allHandlers);
+    public FluidHandlerTarget(@NotNull FluidStack type, int expectedSize) {
+        super(expectedSize);
         this.extra = type;
     }
 
-    public FluidHandlerTarget(@NotNull FluidStack type, int expectedSize) {
-        super(expectedSize);
+    /**
+     * Clears all handlers and changes the type this target is sending so that it can be reused.
+     */
+    public void reset(@NotNull FluidStack type) {
+        clear();
         this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handler.fill(extra.copyWithAmount(amount), FluidAction.EXECUTE));
+    protected int acceptAmount(IFluidHandler handler, int amount) {
+        return handler.fill(extra.copyWithAmount(amount), FluidAction.EXECUTE);
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
+    protected int simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
-}
\ No newline at end of file
+}
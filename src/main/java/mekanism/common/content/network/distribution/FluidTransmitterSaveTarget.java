@@ -3,13 +3,12 @@ package mekanism.common.content.network.distribution;
 import java.util.Collection;
 import mekanism.api.math.MathUtils;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntTarget;
 import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
 //TODO: Improve handling for fluid storage as longs
-public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarget.SaveHandler, Integer, @NotNull FluidStack> {
+public class FluidTransmitterSaveTarget extends IntTarget<FluidTransmitterSaveTarget.SaveHandler, @NotNull FluidStack> {
 
     public FluidTransmitterSaveTarget(@NotNull FluidStack type, Collection<MechanicalPipe> transmitters) {
         super(transmitters.size());
@@ -20,18 +19,18 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
     }
 
     @Override
-    protected void acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        handler.acceptAmount(splitInfo, amount);
+    protected int acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, int amount) {
+        return handler.acceptAmount(amount);
     }
 
     @Override
-    protected Integer simulate(FluidTransmitterSaveTarget.SaveHandler handler, @NotNull FluidStack fluidStack) {
+    protected int simulate(FluidTransmitterSaveTarget.SaveHandler handler, @NotNull FluidStack fluidStack) {
         return handler.simulate(fluidStack);
     }
 
     public void saveShare() {
-        for (FluidTransmitterSaveTarget.SaveHandler handler : handlers) {
-            handler.saveShare();
+        for (int i = 0, handlerCount = getHandlerCount(); i < handlerCount; i++) {
+            getHandler(i).saveShare();
         }
     }
 
@@ -44,17 +43,17 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Integer> splitInfo, Integer amount) {
+        protected int acceptAmount(int amount) {
             amount = Math.min(amount, MathUtils.clampToInt(transmitter.getCapacity() - currentStored.getAmount()));
             if (currentStored.isEmpty()) {
                 currentStored = extra.copyWithAmount(amount);
             } else {
                 currentStored.grow(amount);
             }
-            splitInfo.send(amount);
+            return amount;
         }
 
-        protected Integer simulate(@NotNull FluidStack fluidStack) {
+        protected int simulate(@NotNull FluidStack fluidStack) {
             if (!currentStored.isEmpty() && !FluidStack.isSameFluidSameComponents(currentStored, fluidStack)) {
                 return 0;
             }
@@ -182,6 +182,11 @@ public class BoxedPressurizedTube extends BufferedTransmitter<BoxedChemicalHandl
     @Override
     public void read(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         super.read(provider, nbtTags);
+        readShare(provider, nbtTags);
+    }
+
+    @Override
+    public void readShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         if (nbtTags.contains(SerializationConstants.BOXED_CHEMICAL, Tag.TAG_COMPOUND)) {
             saveShare = BoxedChemicalStack.parseOptional(provider, nbtTags.getCompound(SerializationConstants.BOXED_CHEMICAL));
         } else {
@@ -207,12 +212,17 @@ public class BoxedPressurizedTube extends BufferedTransmitter<BoxedChemicalHandl
         if (hasTransmitterNetwork()) {
             getTransmitterNetwork().validateSaveShares(this);
         }
+        writeShare(provider, nbtTags);
+        return nbtTags;
+    }
+
+    @Override
+    public void writeShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         if (saveShare.isEmpty()) {
             nbtTags.remove(SerializationConstants.BOXED_CHEMICAL);
         } else {
             nbtTags.put(SerializationConstants.BOXED_CHEMICAL, saveShare.save(provider));
         }
-        return nbtTags;
     }
 
     @Override
@@ -199,6 +199,18 @@ public abstract class BufferedTransmitter<ACCEPTOR, NETWORK extends DynamicBuffe
     @NotNull
     public abstract BUFFER getShare();
 
+    /**
+     * Reads the share of the network's buffer that this transmitter saved, and sets it as this transmitter's buffer.
+     */
+    public abstract void readShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags);
+
+    /**
+     * Writes the share of the network's buffer that this transmitter saves with.
+     *
+     * @apiNote Make sure the network's save shares are valid before calling this.
+     */
+    public abstract void writeShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags);
+
     @Override
     public void validateAndTakeShare() {
         if (hasTransmitterNetwork()) {
@@ -82,6 +82,7 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
         nextId = data.nextId;
         delay = data.delay;
         delayCount = data.delayCount;
+        wake();
     }
 
     @Override
@@ -27,6 +27,7 @@ import mekanism.common.network.to_client.transmitter.PacketTransporterBatch;
 import mekanism.common.network.to_client.transmitter.PacketTransporterSync;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
@@ -106,6 +107,52 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         }
     }
 
+    /**
+     * {@return {@code true} if this transporter has stacks in flight or may pull from adjacent inventories, and so needs to be updated by its network}
+     */
+    public boolean needsUpdate() {
+        if (!transit.isEmpty()) {
+            return true;
+        }
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (getConnectionType(side) == ConnectionType.PULL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Schedules this transporter to be updated by its network if it has anything to do.
+     */
+    public void wake() {
+        if (hasTransmitterNetwork() && !isRemote() && needsUpdate()) {
+            getTransmitterNetwork().scheduleUpdate(this);
+        }
+    }
+
+    @Override
+    public boolean setTransmitterNetwork(InventoryNetwork network, boolean requestNow) {
+        boolean needsRequest = super.setTransmitterNetwork(network, requestNow);
+        wake();
+        return needsRequest;
+    }
+
+    @Override
+    public void refreshConnections() {
+        super.refreshConnections();
+        wake();
+    }
+
+    @Override
+    public void refreshConnections(Direction side) {
+        super.refreshConnections(side);
+        wake();
+    }
+
+    /**
+     * @apiNote Only called by the {@link InventoryNetwork} for transporters that have been {@link #wake() scheduled}.
+     */
     public void onUpdateServer() {
         if (getTransmitterNetwork() != null) {
             //Pull items into the transporter
@@ -163,12 +210,12 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                     if (stack.progress >= 100) {
                         BlockPos prevSet = null;
                         if (stack.hasPath()) {
-                            int currentIndex = stack.getPath().indexOf(pos);
+                            int currentIndex = stack.getPathIndex(pos);
                             if (currentIndex == 0) { //Necessary for transition reasons, not sure why
                                 deletes.add(stackId);
                                 continue;
                             }
-                            BlockPos next = stack.getPath().get(currentIndex - 1);
+                            BlockPos next = stack.getPathPos(currentIndex - 1);
                             if (next != null) {
                                 if (!stack.isFinal(this)) {
                                     //If this is not the final transporter try transferring it to the next one
@@ -236,7 +283,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                             } else {
                                 Direction nextSide = stack.getSide(pos, nextPos);
                                 LogisticalTransporterBase nextTransmitter = network.getTransmitter(nextPos);
-                                if (nextTransmitter == null && stack.getPathType().noTarget() && stack.getPath().size() == 2) {
+                                if (nextTransmitter == null && stack.getPathType().noTarget() && stack.getPathLength() == 2) {
                                     //If there is no next transmitter, and it was an idle path, assume that we are idling
                                     // in a single length transmitter, in which case we only recalculate it at 50 if it won't
                                     // be able to go into that connection type
@@ -377,6 +424,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
     public void addStack(int id, TransporterStack s) {
         transit.put(id, s);
+        wake();
     }
 
     private boolean recalculate(int stackId, TransporterStack stack, BlockPos from) {
@@ -126,6 +126,11 @@ public class MechanicalPipe extends BufferedTransmitter<IFluidHandler, FluidNetw
     @Override
     public void read(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         super.read(provider, nbtTags);
+        readShare(provider, nbtTags);
+    }
+
+    @Override
+    public void readShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         if (nbtTags.contains(SerializationConstants.FLUID, Tag.TAG_COMPOUND)) {
             saveShare = FluidStack.parseOptional(provider, nbtTags.getCompound(SerializationConstants.FLUID));
         } else {
@@ -141,12 +146,17 @@ public class MechanicalPipe extends BufferedTransmitter<IFluidHandler, FluidNetw
         if (hasTransmitterNetwork()) {
             getTransmitterNetwork().validateSaveShares(this);
         }
+        writeShare(provider, nbtTags);
+        return nbtTags;
+    }
+
+    @Override
+    public void writeShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         if (saveShare.isEmpty()) {
             nbtTags.remove(SerializationConstants.FLUID);
         } else {
             nbtTags.put(SerializationConstants.FLUID, saveShare.save(provider));
         }
-        return nbtTags;
     }
 
     @Override
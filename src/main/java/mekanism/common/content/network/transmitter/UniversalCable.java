@@ -119,6 +119,11 @@ public class UniversalCable extends BufferedTransmitter<IStrictEnergyHandler, En
     @Override
     public void read(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         super.read(provider, nbtTags);
+        readShare(provider, nbtTags);
+    }
+
+    @Override
+    public void readShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         if (nbtTags.contains(SerializationConstants.ENERGY, Tag.TAG_STRING)) {
             try {
                 lastWrite = FloatingLong.parseFloatingLong(nbtTags.getString(SerializationConstants.ENERGY));
@@ -138,12 +143,17 @@ public class UniversalCable extends BufferedTransmitter<IStrictEnergyHandler, En
         if (hasTransmitterNetwork()) {
             getTransmitterNetwork().validateSaveShares(this);
         }
+        writeShare(provider, nbtTags);
+        return nbtTags;
+    }
+
+    @Override
+    public void writeShare(HolderLookup.Provider provider, @NotNull CompoundTag nbtTags) {
         if (lastWrite.isZero()) {
             nbtTags.remove(SerializationConstants.ENERGY);
         } else {
             nbtTags.putString(SerializationConstants.ENERGY, lastWrite.toString());
         }
-        return nbtTags;
     }
 
     @Override
@@ -95,6 +95,13 @@ public class QIODriveData {
         return itemMap.size();
     }
 
+    /**
+     * @return {@code true} if this drive has room for at least one more item of a type it doesn't already contain.
+     */
+    public boolean canAcceptNewType() {
+        return itemCount < countCapacity && itemMap.size() < typeCapacity;
+    }
+
     public record QIODriveKey(IQIODriveHolder holder, int driveSlot) {
 
         public void save(QIODriveData data) {
@@ -5,9 +5,12 @@ import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,17 +38,18 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIOItemViewerSession.ViewerStats;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
 import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
-import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
@@ -56,13 +60,16 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.common.util.Lazy;
 import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
 
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
     private static final RandomSource rand = RandomSource.create();
+    /**
+     * Number of item types to look up the tags of per tick when the tag lookup is being rebuilt after tags were reloaded.
+     */
+    private static final int TAG_REFRESH_BATCH = 1_024;
     public static final Codec<QIOFrequency> CODEC = RecordCodecBuilder.create(instance -> baseCodec(instance)
           .and(EnumColor.CODEC.fieldOf(SerializationConstants.COLOR).forGetter(QIOFrequency::getColor))
           .apply(instance, (name, owner, securityMode, color) -> {
@@ -89,9 +96,16 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private final SequencedMap<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
     private final SequencedMap<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    // drives that have room for an item type they don't contain yet, so that adding a new type doesn't have to check every drive
+    private final Set<QIODriveData> drivesWithFreeSpace = new ReferenceLinkedOpenHashSet<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
     // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
+    private BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
+    // lookup that is being rebuilt over multiple ticks after a tag reload, the old lookup keeps being used until this one has all the stored items in it
+    @Nullable
+    private BiMultimap<String, HashedItem> refreshedTagLookupMap;
+    private final List<HashedItem> tagRefreshQueue = new ArrayList<>();
+    private int tagRefreshIndex;
     // efficiently keep track of the modids utilized by the items stored
     private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
     // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
@@ -103,11 +117,12 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    private final Set<HashedItem> updatedItems = new HashSet<>();
+    private final Map<ServerPlayer, QIOItemViewerSession> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
+    private int ticksSinceViewerSync;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
 
@@ -178,6 +193,63 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return amount - data.add(amount, action);
     }
 
+    /**
+     * Inserts multiple stacks at once. Stacks of the same type are combined so that each type only has to be looked up and placed into drives once.
+     *
+     * @param stacks Stacks to insert. The stacks are not modified.
+     *
+     * @return The amount of each stack that was inserted, in the same order as the given stacks.
+     */
+    public int[] massInsert(List<ItemStack> stacks) {
+        int[] inserted = new int[stacks.size()];
+        if (stacks.isEmpty() || totalCount == totalCountCapacity) {
+            return inserted;
+        }
+        //Combine the amounts of stacks that are of the same type
+        Object2LongMap<HashedItem> amounts = new Object2LongLinkedOpenHashMap<>();
+        HashedItem[] types = new HashedItem[inserted.length];
+        for (int i = 0; i < inserted.length; i++) {
+            ItemStack stack = stacks.get(i);
+            if (!stack.isEmpty()) {
+                HashedItem type = HashedItem.create(stack);
+                types[i] = type;
+                amounts.mergeLong(type, stack.getCount(), Long::sum);
+            }
+        }
+        for (Object2LongMap.Entry<HashedItem> entry : amounts.object2LongEntrySet()) {
+            HashedItem type = entry.getKey();
+            QIOItemTypeData data = itemDataMap.get(type);
+            if (data == null) {
+                if (itemDataMap.size() == totalTypeCapacity) {
+                    //Don't add any ghost item types if there is no room for new ones
+                    entry.setValue(0);
+                    continue;
+                }
+                data = createTypeDataForAbsent(type);
+                itemDataMap.put(type, data);
+            }
+            long amount = entry.getLongValue();
+            entry.setValue(amount - data.add(amount, Action.EXECUTE));
+            if (totalCount == totalCountCapacity) {
+                //We are full, don't bother trying to insert any of the remaining types
+                break;
+            }
+        }
+        //Hand out the amount that was inserted for each type to the stacks of that type in order
+        for (int i = 0; i < inserted.length; i++) {
+            HashedItem type = types[i];
+            if (type != null) {
+                long remaining = amounts.getLong(type);
+                if (remaining > 0) {
+                    int toUse = (int) Math.min(remaining, stacks.get(i).getCount());
+                    inserted[i] = toUse;
+                    amounts.put(type, remaining - toUse);
+                }
+            }
+        }
+        return inserted;
+    }
+
     public ItemStack addItem(ItemStack stack) {
         if (stack.isEmpty()) {
             return ItemStack.EMPTY;
@@ -214,6 +286,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 tagWildcardCache.clear();
                 failedWildcardTags.clear();
             }
+            if (refreshedTagLookupMap != null) {
+                refreshedTagLookupMap.putAll(tags, type);
+            }
         }
         String modID = MekanismUtils.getModId(stack);
         Set<HashedItem> modItems = modIDLookupMap.get(modID);
@@ -298,6 +373,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             tagWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
         }
+        if (refreshedTagLookupMap != null) {
+            refreshedTagLookupMap.removeValue(type);
+        }
         ItemStack stack = type.getInternalStack();
         String modID = MekanismUtils.getModId(stack);
         Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
@@ -401,8 +479,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
      */
     private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
         boolean added = false;
+        CompiledWildcard compiled = WildcardMatcher.compile(wildcard);
         for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
+            if (compiled.matches(entry)) {
                 added |= wildcardCache.put(wildcard, entry);
             }
         }
@@ -410,18 +489,25 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
-        }
-        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, map));
+        //Note: If the player was already viewing the items this starts a new session, as the client starts over when it receives the batch sync
+        QIOItemViewerSession session = new QIOItemViewerSession(player);
+        playersViewingItems.put(player, session);
+        PacketDistributor.sendToPlayer(player, session.createBatch(itemDataMap, totalCountCapacity, totalTypeCapacity));
     }
 
     public void closeItemViewer(ServerPlayer player) {
         playersViewingItems.remove(player);
     }
 
+    /**
+     * {@return stats about syncing the items to the given player, or {@code null} if the player is not viewing the items in this frequency}
+     */
+    @Nullable
+    public ViewerStats getViewerStats(ServerPlayer player) {
+        QIOItemViewerSession session = playersViewingItems.get(player);
+        return session == null ? null : session.getStats();
+    }
+
     @Override
     public EnumColor getColor() {
         return color;
@@ -485,7 +571,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             //TODO - 1.20.4: Only perform every so often?
             SecurityFrequency security = FrequencyType.SECURITY.getManager(null, SecurityMode.PUBLIC).getFrequency(getOwner());
             if (security != null) {
-                for (ServerPlayer player : new HashSet<>(playersViewingItems)) {
+                for (ServerPlayer player : new ArrayList<>(playersViewingItems.keySet())) {
                     if (!ownerMatches(player.getUUID()) && !security.isTrusted(player.getUUID()) && player.containerMenu instanceof QIOItemViewerContainer) {
                         player.closeContainer();
                         closeItemViewer(player);
@@ -494,24 +580,16 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                for (UUID uuid : updatedItems) {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
-                    }
-                }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
-            });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
+        if ((!updatedItems.isEmpty() || needsUpdate) && ++ticksSinceViewerSync >= MekanismConfig.general.qioViewerSyncInterval.get()) {
+            //Each viewer gets its own packet as the ids of the types and the counts they were last sent differ per player
+            for (Iterator<QIOItemViewerSession> viewingIterator = playersViewingItems.values().iterator(); viewingIterator.hasNext(); ) {
+                QIOItemViewerSession session = viewingIterator.next();
+                ServerPlayer player = session.getPlayer();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    PacketUpdateItemViewer packet = session.createUpdate(this, updatedItems, totalCountCapacity, totalTypeCapacity);
+                    if (packet != null) {
+                        PacketDistributor.sendToPlayer(player, packet);
+                    }
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
@@ -519,6 +597,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
             updatedItems.clear();
             needsUpdate = false;
+            ticksSinceViewerSync = 0;
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
@@ -532,16 +611,38 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
-            tagLookupMap.clear();
-            tagWildcardCache.clear();
-            for (QIOItemTypeData item : itemDataMap.values()) {
-                tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
-            }
+            //Note: We only need to refresh tags here as the modids cannot change just because a reload happened
+            refreshedTagLookupMap = new BiMultimap<>();
+            tagRefreshQueue.clear();
+            tagRefreshQueue.addAll(itemDataMap.keySet());
+            tagRefreshIndex = 0;
+        }
+        if (refreshedTagLookupMap != null) {
+            refreshTags(refreshedTagLookupMap);
         }
         return superDirty;
     }
 
+    /**
+     * Looks up the tags of the next batch of stored types, and once all of them have been looked up replaces the tag lookup with the refreshed one.
+     */
+    private void refreshTags(BiMultimap<String, HashedItem> refreshed) {
+        for (int end = Math.min(tagRefreshIndex + TAG_REFRESH_BATCH, tagRefreshQueue.size()); tagRefreshIndex < end; tagRefreshIndex++) {
+            HashedItem type = tagRefreshQueue.get(tagRefreshIndex);
+            //Skip any types that have been removed since the refresh started, types that were added have already been put in the refreshed lookup
+            if (itemDataMap.containsKey(type)) {
+                refreshed.putAll(TagCache.getItemTags(type.getInternalStack()), type);
+            }
+        }
+        if (tagRefreshIndex >= tagRefreshQueue.size()) {
+            tagLookupMap = refreshed;
+            refreshedTagLookupMap = null;
+            tagRefreshQueue.clear();
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
+        }
+    }
+
     @Override
     public boolean onDeactivate(BlockEntity tile) {
         boolean changedData = super.onDeactivate(tile);
@@ -576,7 +677,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             removeDrive(key, false);
         }
         driveMap.clear();
-        for (ServerPlayer player : playersViewingItems) {
+        drivesWithFreeSpace.clear();
+        for (ServerPlayer player : playersViewingItems.keySet()) {
             Mekanism.packetHandler().killItemViewer(player);
         }
     }
@@ -603,6 +705,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            updateFreeSpace(data);
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
                 itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
@@ -623,7 +726,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 long value = entry.getLongValue();
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    itemData.containingDrives.remove(data);
                     itemData.count -= value;
                     totalCount -= value;
                     markForUpdate(storedKey);
@@ -639,6 +742,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        drivesWithFreeSpace.remove(data);
         // save the item list onto the physical drive
         key.updateMetadata(data);
         key.save(data);
@@ -653,19 +757,27 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
     }
 
+    private void updateFreeSpace(QIODriveData data) {
+        if (data.canAcceptNewType()) {
+            drivesWithFreeSpace.add(data);
+        } else {
+            drivesWithFreeSpace.remove(data);
+        }
+    }
+
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         isDirty = true;
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+                updatedItems.add(changedItem);
             }
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+            updatedItems.add(changedItem);
         }
     }
 
@@ -677,7 +789,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
         private final HashedItem itemType;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
+        private final Set<QIODriveData> containingDrives = new ReferenceLinkedOpenHashSet<>();
 
         public QIOItemTypeData(HashedItem itemType) {
             this.itemType = itemType;
@@ -686,24 +798,33 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         private void addFromDrive(QIODriveData data, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            containingDrives.add(data);
             setNeedsUpdate();
         }
 
         private long add(long amount, Action action) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
+            for (QIODriveData data : containingDrives) {
+                toAdd = addItemsToDrive(toAdd, data, action);
                 if (toAdd == 0) {
                     break;
                 }
             }
-            // next, we add the items to any drive that will take it
+            // next, we add the items to drives that have room for a new type, any other drives would reject it
             if (toAdd > 0) {
-                for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
-                        toAdd = addItemsToDrive(toAdd, data, action);
+                for (Iterator<QIODriveData> iter = drivesWithFreeSpace.iterator(); iter.hasNext(); ) {
+                    QIODriveData data = iter.next();
+                    if (!containingDrives.contains(data)) {
+                        long rejects = data.add(itemType, toAdd, action);
+                        if (action.execute() && rejects < toAdd) {
+                            containingDrives.add(data);
+                            if (!data.canAcceptNewType()) {
+                                //Note: We have to remove it via the iterator as we are iterating the free space index
+                                iter.remove();
+                            }
+                        }
+                        toAdd = rejects;
                         if (toAdd == 0) {
                             break;
                         }
@@ -722,19 +843,23 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
             long rejects = data.add(itemType, toAdd, action);
             if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                containingDrives.add(data);
+                updateFreeSpace(data);
             }
             return rejects;
         }
 
         private long remove(long amount, Action action) {
             long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
+            for (Iterator<QIODriveData> iter = containingDrives.iterator(); iter.hasNext(); ) {
+                QIODriveData data = iter.next();
                 removed += data.remove(itemType, amount - removed, action);
-                // remove this drive from containingDrives if it doesn't have this item anymore
-                if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
+                if (action.execute()) {
+                    // remove this drive from containingDrives if it doesn't have this item anymore
+                    if (data.getStored(itemType) == 0) {
+                        iter.remove();
+                    }
+                    updateFreeSpace(data);
                 }
                 // break early if we found enough items
                 if (removed == amount) {
@@ -0,0 +1,130 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.Collection;
+import java.util.Map;
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
+import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of what a single player viewing the items in a QIO frequency has been told, so that each update only has to contain how much the counts changed by, and
+ * can refer to types the player already knows about by a small id instead of by their stack and UUID.
+ */
+public class QIOItemViewerSession {
+
+    private static final int NO_ID = -1;
+
+    private final ServerPlayer player;
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    /**
+     * Count of each type the player was last sent, indexed by session id.
+     */
+    private final LongArrayList sentCounts = new LongArrayList();
+    private long sentCountCapacity;
+    private int sentTypeCapacity;
+
+    private long updates;
+    private long typesSent;
+    private long changesSent;
+    private long changeBytes;
+    private long syncNanos;
+
+    QIOItemViewerSession(ServerPlayer player) {
+        this.player = player;
+        typeIds.defaultReturnValue(NO_ID);
+    }
+
+    ServerPlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Starts the session by giving every stored type an id, in the same order the types are written to the returned packet.
+     */
+    PacketBatchItemViewerSync createBatch(Map<HashedItem, QIOItemTypeData> stored, long countCapacity, int typeCapacity) {
+        long start = System.nanoTime();
+        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongLinkedOpenHashMap<>(stored.size());
+        for (Map.Entry<HashedItem, QIOItemTypeData> entry : stored.entrySet()) {
+            HashedItem type = entry.getKey();
+            long count = entry.getValue().getCount();
+            typeIds.put(type, sentCounts.size());
+            sentCounts.add(count);
+            map.put(new UUIDAwareHashedItem(type, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type)), count);
+        }
+        sentCountCapacity = countCapacity;
+        sentTypeCapacity = typeCapacity;
+        typesSent += map.size();
+        syncNanos += System.nanoTime() - start;
+        return new PacketBatchItemViewerSync(countCapacity, typeCapacity, map);
+    }
+
+    /**
+     * Creates the update for the given changed types, or {@code null} if nothing the player has been told about actually changed.
+     */
+    @Nullable
+    PacketUpdateItemViewer createUpdate(QIOFrequency frequency, Collection<HashedItem> changed, long countCapacity, int typeCapacity) {
+        long start = System.nanoTime();
+        Int2ObjectMap<UUIDAwareHashedItem> newTypes = new Int2ObjectOpenHashMap<>();
+        Int2LongMap countChanges = new Int2LongOpenHashMap(changed.size());
+        for (HashedItem type : changed) {
+            long count = frequency.getStoredByHash(type);
+            int id = typeIds.getInt(type);
+            if (id == NO_ID) {
+                if (count == 0) {
+                    //The player was never told about the type and there is none of it anymore
+                    continue;
+                }
+                id = sentCounts.size();
+                typeIds.put(type, id);
+                sentCounts.add(0);
+                newTypes.put(id, new UUIDAwareHashedItem(type, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type)));
+            }
+            long change = count - sentCounts.getLong(id);
+            if (change != 0) {
+                sentCounts.set(id, count);
+                countChanges.put(id, change);
+                changeBytes += VarInt.getByteSize(id) + VarLong.getByteSize((change << 1) ^ (change >> 63));
+            }
+        }
+        PacketUpdateItemViewer packet = null;
+        if (!countChanges.isEmpty() || countCapacity != sentCountCapacity || typeCapacity != sentTypeCapacity) {
+            sentCountCapacity = countCapacity;
+            sentTypeCapacity = typeCapacity;
+            updates++;
+            typesSent += newTypes.size();
+            changesSent += countChanges.size();
+            packet = new PacketUpdateItemViewer(countCapacity, typeCapacity, newTypes, countChanges);
+        }
+        syncNanos += System.nanoTime() - start;
+        return packet;
+    }
+
+    ViewerStats getStats() {
+        return new ViewerStats(updates, typesSent, changesSent, changeBytes, syncNanos);
+    }
+
+    /**
+     * @param updates     Number of update packets sent to the player.
+     * @param typesSent   Number of times the full stack and UUID of a type had to be sent, including the initial sync.
+     * @param changesSent Number of count changes sent using only the session id of the type.
+     * @param changeBytes Number of bytes the session ids and count changes took up.
+     * @param syncNanos   Time spent building packets for the player in nanoseconds.
+     */
+    public record ViewerStats(long updates, long typesSent, long changesSent, long changeBytes, long syncNanos) {
+    }
+}
@@ -12,6 +12,7 @@ import mekanism.common.content.filter.IModIDFilter;
 import mekanism.common.lib.inventory.Finder;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.Nullable;
 
 public class QIOModIDFilter extends QIOFilter<QIOModIDFilter> implements IModIDFilter<QIOModIDFilter> {
 
@@ -28,6 +29,8 @@ public class QIOModIDFilter extends QIOFilter<QIOModIDFilter> implements IModIDF
     );
 
     private String modID;
+    @Nullable
+    private Finder finder;
 
     public QIOModIDFilter() {
     }
@@ -44,7 +47,11 @@ public class QIOModIDFilter extends QIOFilter<QIOModIDFilter> implements IModIDF
 
     @Override
     public Finder getFinder() {
-        return Finder.modID(modID);
+        if (finder == null) {
+            //Keep the finder so that the results it remembers for each item can be reused
+            finder = Finder.modID(modID);
+        }
+        return finder;
     }
 
     @Override
@@ -76,6 +83,7 @@ public class QIOModIDFilter extends QIOFilter<QIOModIDFilter> implements IModIDF
     @Override
     public void setModID(String id) {
         modID = id;
+        finder = null;
     }
 
     @Override
@@ -12,6 +12,7 @@ import mekanism.common.content.filter.ITagFilter;
 import mekanism.common.lib.inventory.Finder;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.Nullable;
 
 public class QIOTagFilter extends QIOFilter<QIOTagFilter> implements ITagFilter<QIOTagFilter> {
 
@@ -28,6 +29,8 @@ public class QIOTagFilter extends QIOFilter<QIOTagFilter> implements ITagFilter<
     );
 
     private String tagName;
+    @Nullable
+    private Finder finder;
 
     public QIOTagFilter() {
     }
@@ -44,7 +47,11 @@ public class QIOTagFilter extends QIOFilter<QIOTagFilter> implements ITagFilter<
 
     @Override
     public Finder getFinder() {
-        return Finder.tag(tagName);
+        if (finder == null) {
+            //Keep the finder so that the results it remembers for each item can be reused
+            finder = Finder.tag(tagName);
+        }
+        return finder;
     }
 
     @Override
@@ -76,6 +83,7 @@ public class QIOTagFilter extends QIOFilter<QIOTagFilter> implements ITagFilter<
     @Override
     public void setTagName(String name) {
         tagName = name;
+        finder = null;
     }
 
     @Override
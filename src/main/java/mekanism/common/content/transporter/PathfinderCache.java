@@ -1,16 +1,16 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
-import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.PathTree;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
 public class PathfinderCache {
@@ -18,47 +18,124 @@ public class PathfinderCache {
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final int COLOR_SLOTS = EnumColor.values().length + 1;
+    private static final Map<UUID, NetworkPathCache> cachedTrees = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static int entries;
 
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            if (network.isEmpty()) {
+                //The network got removed, release anything we have cached for it
+                NetworkPathCache cache = cachedTrees.remove(network.getUUID());
+                if (cache != null) {
+                    cache.clear();
+                }
+            } else {
+                //Otherwise, just invalidate anything cached for the previous generation of the network
+                network.incrementPathGeneration();
+            }
         }
     }
 
-    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
-        CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
-        return cachedPath;
+    /**
+     * Gets the shortest path tree for stacks of the given color starting at the given transporter, building it if there isn't one cached for the current generation of
+     * the network.
+     */
+    public static PathTree getPathTree(InventoryNetwork network, LogisticalTransporterBase start, @Nullable EnumColor color) {
+        NetworkPathCache cache = cachedTrees.computeIfAbsent(network.getUUID(), uuid -> new NetworkPathCache());
+        return cache.getOrCreate(network, start, color);
     }
 
-    @Nullable
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
-        CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
-            for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
-                if (test != null) {
-                    if (ret == null || test.cost() < ret.cost()) {
-                        ret = test;
-                    }
-                }
-            }
-        }
-        return ret;
+    public static void reset() {
+        cachedTrees.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        entries = 0;
     }
 
-    public static void reset() {
-        cachedPaths.clear();
+    public static CacheStats getStats() {
+        return new CacheStats(hits, misses, evictions, entries);
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
-    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
+    /**
+     * @param hits      Number of path lookups that were able to use a cached path tree.
+     * @param misses    Number of path lookups that required building a new path tree.
+     * @param evictions Number of path trees removed because a network's cache was full.
+     * @param entries   Number of path trees currently cached across all networks.
+     */
+    public record CacheStats(long hits, long misses, long evictions, int entries) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : hits / (double) total;
+        }
+    }
+
+    private static class NetworkPathCache {
+
+        /**
+         * Trees keyed by the packed position of the start transporter, in least to most recently used order, with each start having one slot per stack color.
+         */
+        private final Long2ObjectLinkedOpenHashMap<PathTree[]> trees = new Long2ObjectLinkedOpenHashMap<>();
+        private int generation;
+        private int size;
+
+        private PathTree getOrCreate(InventoryNetwork network, LogisticalTransporterBase start, @Nullable EnumColor color) {
+            if (generation != network.getPathGeneration()) {
+                clear();
+                generation = network.getPathGeneration();
+            }
+            long startKey = start.getBlockPos().asLong();
+            int colorSlot = color == null ? 0 : color.ordinal() + 1;
+            PathTree[] treesByColor = trees.getAndMoveToLast(startKey);
+            if (treesByColor == null) {
+                treesByColor = new PathTree[COLOR_SLOTS];
+                trees.putAndMoveToLast(startKey, treesByColor);
+            } else if (treesByColor[colorSlot] != null) {
+                hits++;
+                return treesByColor[colorSlot];
+            }
+            misses++;
+            PathTree tree = new PathTree(network, start, color);
+            treesByColor[colorSlot] = tree;
+            size++;
+            entries++;
+            evictOverflow(startKey);
+            return tree;
+        }
+
+        private void evictOverflow(long newestKey) {
+            int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+            while (size > maxSize && trees.size() > 1 && trees.firstLongKey() != newestKey) {
+                //Remove the least recently used start position
+                int removed = countTrees(trees.removeFirst());
+                size -= removed;
+                entries -= removed;
+                evictions += removed;
+            }
+        }
+
+        private void clear() {
+            entries -= size;
+            size = 0;
+            trees.clear();
+        }
+
+        private static int countTrees(PathTree[] treesByColor) {
+            int count = 0;
+            for (PathTree tree : treesByColor) {
+                if (tree != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ import mekanism.common.content.filter.IModIDFilter;
 import mekanism.common.lib.inventory.Finder;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.Nullable;
 
 public class SorterModIDFilter extends SorterFilter<SorterModIDFilter> implements IModIDFilter<SorterModIDFilter> {
 
@@ -30,6 +31,8 @@ public class SorterModIDFilter extends SorterFilter<SorterModIDFilter> implement
     );
 
     private String modID;
+    @Nullable
+    private Finder finder;
 
     public SorterModIDFilter() {
     }
@@ -47,7 +50,11 @@ public class SorterModIDFilter extends SorterFilter<SorterModIDFilter> implement
 
     @Override
     public Finder getFinder() {
-        return Finder.modID(modID);
+        if (finder == null) {
+            //Keep the finder so that the results it remembers for each item can be reused
+            finder = Finder.modID(modID);
+        }
+        return finder;
     }
 
     @Override
@@ -79,6 +86,7 @@ public class SorterModIDFilter extends SorterFilter<SorterModIDFilter> implement
     @Override
     public void setModID(String id) {
         modID = id;
+        finder = null;
     }
 
     @Override
@@ -14,6 +14,7 @@ import mekanism.common.content.filter.ITagFilter;
 import mekanism.common.lib.inventory.Finder;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.Nullable;
 
 public class SorterTagFilter extends SorterFilter<SorterTagFilter> implements ITagFilter<SorterTagFilter> {
 
@@ -30,6 +31,8 @@ public class SorterTagFilter extends SorterFilter<SorterTagFilter> implements IT
     );
 
     private String tagName;
+    @Nullable
+    private Finder finder;
 
     public SorterTagFilter() {
     }
@@ -47,7 +50,11 @@ public class SorterTagFilter extends SorterFilter<SorterTagFilter> implements IT
 
     @Override
     public Finder getFinder() {
-        return Finder.tag(tagName);
+        if (finder == null) {
+            //Keep the finder so that the results it remembers for each item can be reused
+            finder = Finder.tag(tagName);
+        }
+        return finder;
     }
 
     @Override
@@ -79,6 +86,7 @@ public class SorterTagFilter extends SorterFilter<SorterTagFilter> implements IT
     @Override
     public void setTagName(String name) {
         tagName = name;
+        finder = null;
     }
 
     @Override
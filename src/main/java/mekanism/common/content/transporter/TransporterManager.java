@@ -1,5 +1,7 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -8,6 +10,7 @@ import java.util.Set;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.core.Direction;
@@ -15,6 +18,7 @@ import net.minecraft.core.GlobalPos;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TransporterManager {
 
@@ -22,21 +26,55 @@ public class TransporterManager {
     }
 
     private static final Map<GlobalPos, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Snapshots of destination inventories with the stacks that are flowing to them already inserted, by position and then by the ordinal of the side being inserted
+     * into. These get cleared each tick, as we have no way of knowing when the contents of the destination change.
+     */
+    private static final Map<GlobalPos, PredictionSnapshot[]> predictionCache = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        predictionCache.clear();
+    }
+
+    /**
+     * Clears the cached snapshots of destination inventories, should be called once per tick.
+     */
+    public static void clearPredictionCache() {
+        predictionCache.clear();
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(GlobalPos.of(world.dimension(), stack.getDest()), k -> new HashSet<>()).add(stack);
+        GlobalPos pos = GlobalPos.of(world.dimension(), stack.getDest());
+        flowingStacks.computeIfAbsent(pos, k -> new HashSet<>()).add(stack);
+        PredictionSnapshot[] snapshots = predictionCache.get(pos);
+        if (snapshots != null) {
+            //Add the new stack to the predicted contents of any snapshots we have for the destination, rather than having to recreate them
+            for (int i = 0; i < snapshots.length; i++) {
+                PredictionSnapshot snapshot = snapshots[i];
+                if (snapshot != null) {
+                    if (snapshot.inUse) {
+                        //Shouldn't happen, but if we are in the middle of predicting an insert for the destination just invalidate it instead
+                        predictionCache.remove(pos);
+                        break;
+                    } else if (snapshot.flowingFits) {
+                        snapshot.flowingFits = predictFlowing(EnumUtils.DIRECTIONS[i], snapshot.handler, snapshot.inventoryInfo, stack);
+                    }
+                }
+            }
+        }
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType().hasTarget()) {
             GlobalPos pos = GlobalPos.of(world.dimension(), stack.getDest());
             Set<TransporterStack> transporterStacks = flowingStacks.get(pos);
-            if (transporterStacks != null && transporterStacks.remove(stack) && transporterStacks.isEmpty()) {
-                flowingStacks.remove(pos);
+            if (transporterStacks != null && transporterStacks.remove(stack)) {
+                if (transporterStacks.isEmpty()) {
+                    flowingStacks.remove(pos);
+                }
+                //We can't remove the stack from the predicted contents, so just invalidate any snapshots of the destination
+                predictionCache.remove(pos);
             }
         }
     }
@@ -158,16 +196,16 @@ public class TransporterManager {
                     // items of different types to the same slot just because they are not there yet. We don't
                     // need to make a copy of this stack as it is not modified during any of the operations, and
                     // we only make use of it for type data
-                    inventoryInfo.inventory[slot] = stack;
+                    inventoryInfo.setStack(slot, stack);
                 }
             }
             if (mergedCount > max) {
                 // Not all the items will fit; put max in and save leftovers
-                inventoryInfo.stackSizes[slot] = max;
+                inventoryInfo.setStackSize(slot, max);
                 count = mergedCount - max;
             } else {
                 // All items will fit; set the destination count as the new combined amount
-                inventoryInfo.stackSizes[slot] = mergedCount;
+                inventoryInfo.setStackSize(slot, mergedCount);
                 return 0;
             }
         }
@@ -188,6 +226,26 @@ public class TransporterManager {
      */
     public static TransitResponse getPredictedInsert(GlobalPos position, Direction side, IItemHandler handler, TransitRequest request,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+        PredictionSnapshot snapshot = getSnapshot(position, side, handler);
+        if (snapshot != null) {
+            if (!snapshot.flowingFits) {
+                return request.getEmptyResponse();
+            }
+            //Simulate the additional stacks and the request against the snapshot, and then undo the changes so that it can be used again
+            InventoryInfo inventoryInfo = snapshot.inventoryInfo;
+            snapshot.inUse = true;
+            inventoryInfo.startTracking();
+            try {
+                if (!predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+                    return request.getEmptyResponse();
+                }
+                return getPredictedInsert(inventoryInfo, handler, request);
+            } finally {
+                inventoryInfo.rollback();
+                snapshot.inUse = false;
+            }
+        }
+        //If the snapshot is already being used further up the stack, fall back to calculating it from scratch
         InventoryInfo inventoryInfo = new InventoryInfo(handler);
         //Before we see if this item can fit in the destination, we must first check the stacks that are
         // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
@@ -203,40 +261,63 @@ public class TransporterManager {
         return getPredictedInsert(inventoryInfo, handler, request);
     }
 
+    @Nullable
+    private static PredictionSnapshot getSnapshot(GlobalPos position, Direction side, IItemHandler handler) {
+        PredictionSnapshot[] snapshots = predictionCache.get(position);
+        if (snapshots == null) {
+            snapshots = new PredictionSnapshot[EnumUtils.DIRECTIONS.length];
+            predictionCache.put(position, snapshots);
+        }
+        PredictionSnapshot snapshot = snapshots[side.ordinal()];
+        if (snapshot == null || snapshot.handler != handler) {
+            InventoryInfo inventoryInfo = new InventoryInfo(handler);
+            snapshot = new PredictionSnapshot(handler, inventoryInfo, predictFlowing(position, side, handler, inventoryInfo, flowingStacks));
+            snapshots[side.ordinal()] = snapshot;
+        } else if (snapshot.inUse) {
+            return null;
+        }
+        return snapshot;
+    }
+
     private static boolean predictFlowing(GlobalPos position, Direction side, IItemHandler handler, InventoryInfo inventoryInfo,
           Map<GlobalPos, Set<TransporterStack>> flowingStacks) {
         Set<TransporterStack> transporterStacks = flowingStacks.get(position);
         if (transporterStacks != null) {
             for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType().hasTarget()) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyway so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack could be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
-                        }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return false;
-                    }
+                if (stack != null && !predictFlowing(side, handler, inventoryInfo, stack)) {
+                    // Failed to successfully insert this in-flight item; there's no room for anyone else
+                    return false;
                 }
             }
         }
         return true;
     }
 
+    /**
+     * @return {@code false} if the in-flight stack failed to be inserted in a way that means there is no room for anything else.
+     */
+    private static boolean predictFlowing(Direction side, IItemHandler handler, InventoryInfo inventoryInfo, TransporterStack stack) {
+        if (stack.getPathType().hasTarget()) {
+            //We start by simulating inserting the stack into the handler, regardless of if we
+            // are interacting with the same side of the target as the stack's path is taking.
+            // This is so that in cases where the item handler is shared (chests) or some of
+            // the slots of the item handler may be shared (our machines with multiple sides
+            // set to the same side config are "different" because of the side proxies) then
+            // we want to make sure we try to insert the in-flight stacks anyway so that if
+            // the slot is the same we fill it.
+            int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
+            if (numLeftOver > 0) {
+                //If none of the stack could be inserted, check if we are attempting to insert it
+                // into the same side as the side we are predicting that we can insert into.
+                //If we are not, then assume that the destination does not contain the slot that the in-flight
+                // stack is en-route to at all, so don't exit early just because of failing to insert it into
+                // the destination, and instead continue checking and then simulate/check our TransitRequest
+                return numLeftOver == stack.itemStack.getCount() && side != stack.getSideOfDest();
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets the {@link TransitResponse} of what items we expect to be able to get used/inserted into the item handler with the current inventory info.
      *
@@ -290,6 +371,13 @@ public class TransporterManager {
         private final int[] actualStackSizes;
         private final int[] slotLimits;
         private final int slots;
+        /**
+         * Slots that have been changed since we started tracking, along with their values from before they were changed. Lazily initialized.
+         */
+        private final IntList changedSlots = new IntArrayList();
+        private ItemStack[] savedInventory;
+        private int[] savedStackSizes;
+        private boolean tracking;
 
         public InventoryInfo(IItemHandler handler) {
             slots = handler.getSlots();
@@ -313,5 +401,67 @@ public class TransporterManager {
             }
             return limit;
         }
+
+        public void setStack(int slot, ItemStack stack) {
+            saveSlot(slot);
+            inventory[slot] = stack;
+        }
+
+        public void setStackSize(int slot, int size) {
+            saveSlot(slot);
+            stackSizes[slot] = size;
+        }
+
+        private void saveSlot(int slot) {
+            if (tracking && savedStackSizes[slot] == -1) {
+                savedStackSizes[slot] = stackSizes[slot];
+                savedInventory[slot] = inventory[slot];
+                changedSlots.add(slot);
+            }
+        }
+
+        /**
+         * Starts keeping track of any changes to the contents, so that they can be undone by {@link #rollback()}.
+         */
+        public void startTracking() {
+            if (savedStackSizes == null) {
+                savedInventory = new ItemStack[slots];
+                savedStackSizes = new int[slots];
+                Arrays.fill(savedStackSizes, -1);
+            }
+            tracking = true;
+        }
+
+        /**
+         * Undoes any changes that have been made to the contents since {@link #startTracking()} was called.
+         */
+        public void rollback() {
+            for (int i = 0, size = changedSlots.size(); i < size; i++) {
+                int slot = changedSlots.getInt(i);
+                stackSizes[slot] = savedStackSizes[slot];
+                inventory[slot] = savedInventory[slot];
+                savedStackSizes[slot] = -1;
+                savedInventory[slot] = null;
+            }
+            changedSlots.clear();
+            tracking = false;
+        }
+    }
+
+    private static class PredictionSnapshot {
+
+        private final IItemHandler handler;
+        private final InventoryInfo inventoryInfo;
+        /**
+         * Whether there is still room for anything else after inserting the stacks that are in-flight to the destination.
+         */
+        private boolean flowingFits;
+        private boolean inUse;
+
+        private PredictionSnapshot(IItemHandler handler, InventoryInfo inventoryInfo, boolean flowingFits) {
+            this.handler = handler;
+            this.inventoryInfo = inventoryInfo;
+            this.flowingFits = flowingFits;
+        }
     }
 }
\ No newline at end of file
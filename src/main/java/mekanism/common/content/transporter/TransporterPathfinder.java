@@ -1,11 +1,14 @@
 package mekanism.common.content.transporter;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -19,6 +22,7 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongIndexedMinHeap;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -49,51 +53,25 @@ public final class TransporterPathfinder {
         }
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks);
+        if (acceptors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        //Compute (or reuse) a single shortest path tree from the start to everything reachable rather than searching once per acceptor
+        PathTree tree = PathfinderCache.getPathTree(network, start, stack.color);
         List<Destination> paths = new ArrayList<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                CachedPath path = tree.getPath(data.getLocation(), data.getSides(), stack, response.getStack(), chunkMap);
+                if (path != null) {
+                    paths.add(new Destination(path, response));
+                }
             }
         }
         Collections.sort(paths);
         return paths;
     }
 
-    private static boolean checkPath(InventoryNetwork network, List<BlockPos> path, TransporterStack stack) {
-        for (int i = path.size() - 1; i > 0; i--) {
-            LogisticalTransporterBase transmitter = network.getTransmitter(path.get(i));
-            if (transmitter == null) {
-                return false;
-            }
-            EnumColor color = transmitter.getColor();
-            if (color != null && color != stack.color) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
-          Long2ObjectMap<ChunkAccess> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
-            }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
-            p.find(chunkMap);
-            if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
-            }
-        }
-        return null;
-    }
-
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -356,13 +334,155 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Single source shortest path tree from a start transporter to every transporter a stack of a given color can travel through. Used so that finding paths to
+     * every acceptor in the network only requires a single search rather than one search per acceptor.
+     *
+     * @implNote Unlike {@link Pathfinder}, building the tree isn't cut off at a maximum search distance, as it isn't known ahead of time which destinations will be
+     * looked up. This is bounded by the size of the network, and the tree gets cached until the network changes. To keep the same destinations reachable as when
+     * searching to each destination separately, {@link #getPath} rejects paths that went further from the start than the per destination search would have allowed.
+     */
+    public static class PathTree {
+
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+        /**
+         * Furthest distance from the start that the path to each node goes.
+         */
+        private final Long2DoubleMap reach = new Long2DoubleOpenHashMap();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2ObjectMap<CachedPath[]> cachedPaths = new Long2ObjectOpenHashMap<>();
+        private final InventoryNetwork network;
+        private final Level world;
+        private final BlockPos start;
+
+        public PathTree(InventoryNetwork network, LogisticalTransporterBase start, @Nullable EnumColor color) {
+            this.network = network;
+            this.world = start.getLevel();
+            this.start = start.getBlockPos();
+            build(start, color);
+        }
+
+        private void build(LogisticalTransporterBase startTransmitter, @Nullable EnumColor color) {
+            LongIndexedMinHeap openSet = new LongIndexedMinHeap();
+            LongSet closedSet = new LongOpenHashSet();
+            long startKey = start.asLong();
+            gScore.put(startKey, 0D);
+            reach.put(startKey, 0D);
+            openSet.addOrUpdate(startKey, 0D);
+            BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
+            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+            while (!openSet.isEmpty()) {
+                long currentKey = openSet.poll();
+                closedSet.add(currentKey);
+                currentNode.set(currentKey);
+                LogisticalTransporterBase currentNodeTransmitter = currentKey == startKey ? startTransmitter : network.getTransmitter(currentNode);
+                double currentScore = gScore.get(currentKey);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    neighbor.setWithOffset(currentNode, direction);
+                    long neighborKey = neighbor.asLong();
+                    if (closedSet.contains(neighborKey)) {
+                        //Costs are never negative so once a node is closed we can't find a better path to it
+                        continue;
+                    }
+                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                    if (neighborTransmitter != null && canTravel(neighborTransmitter, direction, currentNodeTransmitter, color)) {
+                        double tentativeG = currentScore + neighborTransmitter.getCost();
+                        if (!openSet.contains(neighborKey) || tentativeG < gScore.get(neighborKey)) {
+                            navMap.put(neighborKey, currentKey);
+                            gScore.put(neighborKey, tentativeG);
+                            reach.put(neighborKey, Math.max(reach.get(currentKey), WorldUtils.distanceBetween(start, neighbor)));
+                            openSet.addOrUpdate(neighborKey, tentativeG);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static boolean canTravel(LogisticalTransporterBase transporter, Direction from, @Nullable LogisticalTransporterBase transporterFrom,
+              @Nullable EnumColor color) {
+            //Note: Mirrors TransporterStack#canInsertToTransporterNN so that the tree only depends on the color of the stack
+            EnumColor transporterColor = transporter.getColor();
+            return (transporterColor == null || transporterColor == color) && transporter.canConnectMutual(from.getOpposite(), transporterFrom);
+        }
+
+        /**
+         * Gets the cheapest path from the start of this tree to the given destination that enters the destination from one of the given sides.
+         *
+         * @param sides Sides the destination can be inserted into, relative to the transporter that would be inserting into it.
+         *
+         * @return The cheapest valid path or {@code null} if the destination isn't reachable or can't currently accept the stack.
+         */
+        @Nullable
+        public CachedPath getPath(BlockPos dest, Set<Direction> sides, TransporterStack stack, ItemStack data, Long2ObjectMap<ChunkAccess> chunkMap) {
+            CachedPath best = null;
+            BlockEntity destTile = null;
+            boolean lookedUpTile = false;
+            //Mirror the maximum search distance of the Pathfinder, allowing for paths up to four blocks away if the blocks are very close together
+            double maxSearchDistance = Math.max(2 * WorldUtils.distanceBetween(start, dest), 4);
+            for (Direction side : sides) {
+                BlockPos transporterPos = dest.relative(side.getOpposite());
+                long transporterKey = transporterPos.asLong();
+                if (!gScore.containsKey(transporterKey) || reach.get(transporterKey) > maxSearchDistance) {
+                    //Not reachable, or the path goes too far away for us to consider it
+                    continue;
+                }
+                double cost = gScore.get(transporterKey) + WorldUtils.distanceBetween(transporterPos, dest);
+                if (best != null && cost >= best.cost()) {
+                    continue;
+                }
+                LogisticalTransporterBase transporter = network.getTransmitter(transporterPos);
+                if (transporter == null || !transporter.canEmitTo(side)) {
+                    continue;
+                }
+                if (!lookedUpTile) {
+                    destTile = WorldUtils.getTileEntity(world, chunkMap, dest);
+                    lookedUpTile = true;
+                }
+                if (TransporterUtils.canInsert(world, dest, destTile, stack.color, data, side, false)) {
+                    best = getOrCreatePath(dest, side, transporterKey, cost);
+                }
+            }
+            return best;
+        }
+
+        private CachedPath getOrCreatePath(BlockPos dest, Direction side, long transporterKey, double cost) {
+            long destKey = dest.asLong();
+            CachedPath[] pathsBySide = cachedPaths.get(destKey);
+            if (pathsBySide == null) {
+                pathsBySide = new CachedPath[EnumUtils.DIRECTIONS.length];
+                cachedPaths.put(destKey, pathsBySide);
+            }
+            CachedPath path = pathsBySide[side.ordinal()];
+            if (path == null) {
+                ImmutableList.Builder<BlockPos> builder = ImmutableList.builder();
+                builder.add(dest);
+                long node = transporterKey;
+                builder.add(BlockPos.of(node));
+                while (navMap.containsKey(node)) {
+                    node = navMap.get(node);
+                    builder.add(BlockPos.of(node));
+                }
+                path = new CachedPath(builder.build(), cost);
+                pathsBySide[side.ordinal()] = path;
+            }
+            return path;
+        }
+
+        public BlockPos getStart() {
+            return start;
+        }
+
+        public int size() {
+            return gScore.size();
+        }
+    }
+
     public static class Pathfinder {
 
-        private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
-        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
+        private final LongIndexedMinHeap openSet = new LongIndexedMinHeap();
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
         private final InventoryNetwork network;
         private final BlockPos start;
         private final BlockPos finalNode;
@@ -385,11 +505,11 @@ public final class TransporterPathfinder {
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start);
-            gScore.put(start, 0D);
+            long startKey = start.asLong();
+            gScore.put(startKey, 0D);
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start, totalDistance);
+            openSet.addOrUpdate(startKey, totalDistance);
             boolean hasValidDirection = false;
             LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
             BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
@@ -400,7 +520,7 @@ public final class TransporterPathfinder {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
+                } else if (isValidDestination(startKey, start, startTransmitter, direction, neighbor, chunkMap)) {
                     //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -412,47 +532,36 @@ public final class TransporterPathfinder {
             }
             //If the blocks are very close together, allow for path finding up to four blocks away
             double maxSearchDistance = Math.max(2 * totalDistance, 4);
+            BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
             while (!openSet.isEmpty()) {
-                BlockPos currentNode = null;
-                double lowestFScore = 0;
-                for (BlockPos node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
+                //Remove the node with the lowest fScore from unchecked and add it to checked
+                long currentKey = openSet.poll();
+                closedSet.add(currentKey);
+                currentNode.set(currentKey);
                 if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
                 LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                double currentScore = gScore.get(currentKey);
                 for (Direction direction : EnumUtils.DIRECTIONS) {
                     neighbor.setWithOffset(currentNode, direction);
                     LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
                     if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
                         //If the neighbor is a transporter and the stack is valid for it
+                        long neighborKey = neighbor.asLong();
                         double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
+                        if (closedSet.contains(neighborKey) && tentativeG >= gScore.get(neighborKey)) {
                             continue;
                         }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            BlockPos immutableNeighbor = neighbor.immutable();
-                            navMap.put(immutableNeighbor, currentNode);
-                            gScore.put(immutableNeighbor, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(immutableNeighbor, tentativeG + WorldUtils.distanceBetween(immutableNeighbor, finalNode));
-                            openSet.add(immutableNeighbor);
+                        if (!openSet.contains(neighborKey) || tentativeG < gScore.get(neighborKey)) {
+                            navMap.put(neighborKey, currentKey);
+                            gScore.put(neighborKey, tentativeG);
+                            //Put the gScore plus estimate in the final score, and either add the neighbor or decrease its existing key
+                            openSet.addOrUpdate(neighborKey, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
+                    } else if (isValidDestination(currentKey, currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
                         return true;
                     }
@@ -466,8 +575,8 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
+        private boolean isValidDestination(long startKey, BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction,
+              BlockPos neighbor, Long2ObjectMap<ChunkAccess> chunkMap) {
             //Check to make sure that it is the destination
             if (startTransporter != null && neighbor.equals(finalNode)) {
                 BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
@@ -478,8 +587,8 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start);
-                        finalScore = gScore.getDouble(start) + WorldUtils.distanceBetween(start, finalNode);
+                        results = reconstructPath(startKey);
+                        finalScore = gScore.get(startKey) + WorldUtils.distanceBetween(start, finalNode);
                         return true;
                     }
                 }
@@ -487,11 +596,12 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<BlockPos> reconstructPath(Map<BlockPos, BlockPos> navMap, BlockPos nextNode) {
+        private List<BlockPos> reconstructPath(long nextNode) {
             List<BlockPos> path = new ArrayList<>();
-            while (nextNode != null) {
-                path.add(nextNode);
+            path.add(BlockPos.of(nextNode));
+            while (navMap.containsKey(nextNode)) {
                 nextNode = navMap.get(nextNode);
+                path.add(BlockPos.of(nextNode));
             }
             return path;
         }
@@ -1,10 +1,10 @@
 package mekanism.common.content.transporter;
 
 import io.netty.buffer.ByteBuf;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.IntFunction;
@@ -38,6 +38,8 @@ import org.jetbrains.annotations.Nullable;
 
 public class TransporterStack {
 
+    private static final long[] EMPTY_PATH = new long[0];
+
     //Make sure to call updateForPos before calling this method
     public static StreamCodec<RegistryFriendlyByteBuf, TransporterStack> STREAM_CODEC = NeoForgeStreamCodecs.composite(
           EnumColor.OPTIONAL_STREAM_CODEC, stack -> Optional.ofNullable(stack.color),
@@ -76,7 +78,17 @@ public class TransporterStack {
     private BlockPos clientPrev;
     @Nullable
     private Path pathType;
-    private List<BlockPos> pathToTarget = new ArrayList<>();
+    /**
+     * Packed positions of the path from the destination (index zero) back to where the path started.
+     */
+    private long[] pathToTarget = EMPTY_PATH;
+    /**
+     * Index in {@link #pathToTarget} of the position we last looked up, as stacks only ever move one hop at a time this lets us find the current position without having
+     * to search the entire path.
+     */
+    private int pathCursor;
+    @Nullable
+    private BlockPos destination;
 
     public static TransporterStack readFromNBT(HolderLookup.Provider provider, CompoundTag nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -155,7 +167,12 @@ public class TransporterStack {
             //Only update the actual flowing stacks if we want to modify more than our current stack
             TransporterManager.remove(world, this);
         }
-        pathToTarget = path;
+        pathToTarget = new long[path.size()];
+        for (int i = 0; i < pathToTarget.length; i++) {
+            pathToTarget[i] = path.get(i).asLong();
+        }
+        pathCursor = Math.max(0, pathToTarget.length - 1);
+        destination = path.isEmpty() ? null : path.getFirst();
         pathType = type;
         if (updateFlowing && pathType.hasTarget()) {
             //Only update the actual flowing stacks if we want to modify more than our current stack
@@ -164,11 +181,40 @@ public class TransporterStack {
     }
 
     public boolean hasPath() {
-        return pathToTarget.size() >= 2;
+        return pathToTarget.length >= 2;
     }
 
-    public List<BlockPos> getPath() {
-        return pathToTarget;
+    public int getPathLength() {
+        return pathToTarget.length;
+    }
+
+    /**
+     * @param index Index in the path, with zero being the destination.
+     */
+    public BlockPos getPathPos(int index) {
+        return BlockPos.of(pathToTarget[index]);
+    }
+
+    /**
+     * {@return the index of the given position in the path, or {@code -1} if it is not part of the path}
+     */
+    public int getPathIndex(BlockPos pos) {
+        long packed = pos.asLong();
+        if (pathToTarget.length > 0) {
+            //Check the position we were at last and the one after it before falling back to searching the entire path
+            if (pathToTarget[pathCursor] == packed) {
+                return pathCursor;
+            } else if (pathCursor > 0 && pathToTarget[pathCursor - 1] == packed) {
+                return --pathCursor;
+            }
+            for (int i = 0; i < pathToTarget.length; i++) {
+                if (pathToTarget[i] == packed) {
+                    pathCursor = i;
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
     public Path getPathType() {
@@ -234,7 +280,7 @@ public class TransporterStack {
     }
 
     public boolean isFinal(LogisticalTransporterBase transporter) {
-        return pathToTarget.indexOf(transporter.getBlockPos()) == (getPathType().hasTarget() ? 1 : 0);
+        return getPathIndex(transporter.getBlockPos()) == (getPathType().hasTarget() ? 1 : 0);
     }
 
     //TODO - 1.20.5: Re-evaluate this method
@@ -251,11 +297,11 @@ public class TransporterStack {
 
     @Nullable
     private BlockPos getNext(BlockPos pos) {
-        int index = pathToTarget.indexOf(pos) - 1;
+        int index = getPathIndex(pos) - 1;
         if (index < 0) {
             return null;
         }
-        return pathToTarget.get(index);
+        return getPathPos(index);
     }
 
     public BlockPos getPrev(LogisticalTransporterBase transporter) {
@@ -263,9 +309,9 @@ public class TransporterStack {
     }
 
     private BlockPos getPrev(BlockPos pos) {
-        int index = pathToTarget.indexOf(pos) + 1;
-        if (index < pathToTarget.size()) {
-            return pathToTarget.get(index);
+        int index = getPathIndex(pos) + 1;
+        if (index < pathToTarget.length) {
+            return getPathPos(index);
         }
         return originalLocation;
     }
@@ -317,13 +363,16 @@ public class TransporterStack {
     }
 
     public BlockPos getDest() {
-        return pathToTarget.getFirst();
+        if (destination == null) {
+            throw new NoSuchElementException();
+        }
+        return destination;
     }
 
     @Nullable
     public Direction getSideOfDest() {
         if (hasPath()) {
-            BlockPos lastTransporter = pathToTarget.get(1);
+            BlockPos lastTransporter = getPathPos(1);
             return WorldUtils.sideDifference(lastTransporter, getDest());
         }
         return null;
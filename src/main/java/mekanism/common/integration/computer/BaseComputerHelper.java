@@ -130,6 +130,9 @@ public abstract class BaseComputerHelper {
     @NotNull
     public abstract Map<?, ?> getMap(int param) throws ComputerException;
 
+    @NotNull
+    public abstract List<String> getStringList(int param) throws ComputerException;
+
     /**
      * Convert a Map to an IFilter instance of the expected type
      *
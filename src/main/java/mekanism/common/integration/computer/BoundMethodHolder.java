@@ -15,7 +15,9 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import mekanism.common.integration.computer.ComputerMethodFactory.ComputerFunctionCaller;
+import net.minecraft.server.MinecraftServer;
 import net.neoforged.neoforge.common.util.Lazy;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.Nullable;
 
 public abstract class BoundMethodHolder {
@@ -30,7 +32,17 @@ public abstract class BoundMethodHolder {
           .returnExtra(String.class, MethodHelpData.class)
           .arguments(new String[]{"methodName"}, new Class[]{String.class})
           .build();
-
+    private static final MethodData<BoundMethodHolder> SNAPSHOT_METHOD = MethodData.builder("getSnapshot", BoundMethodHolder::generateSnapshot)
+          .returnType(Map.class)
+          .returnExtra(String.class, Object.class)
+          .methodDescription("Get the values of all readable properties in a single call. Values are only read once per tick")
+          .build();
+    private static final MethodData<BoundMethodHolder> SNAPSHOT_METHOD_WITH_NAMES = MethodData.builder("getSnapshot", BoundMethodHolder::generateSnapshotSpecific)
+          .returnType(Map.class)
+          .returnExtra(String.class, Object.class)
+          .arguments(new String[]{"properties"}, new Class[]{List.class})
+          .methodDescription("Get the values of the given readable properties in a single call. Values are only read once per tick")
+          .build();
 
     protected final ListMultimap<String, BoundMethodData<?>> methods = ArrayListMultimap.create();
     /**
@@ -39,10 +51,21 @@ public abstract class BoundMethodHolder {
     private final Set<ObjectIntPair<String>> methodsKnown = new HashSet<>();
 
     protected Lazy<String[]> methodNames = Lazy.of(() -> this.methods.keys().toArray(new String[0]));
+    /**
+     * Values of the readable properties that have been read for a snapshot during {@link #snapshotTick}, so that polling the same properties multiple times in a tick
+     * only has to read them once.
+     */
+    private final Map<String, Object> snapshotValues = new HashMap<>();
+    @Nullable
+    private Class<? extends BaseComputerHelper> snapshotHelperType;
+    //Note: Volatile as thread safe methods may invalidate the snapshot from the computer's thread
+    private volatile long snapshotTick = -1;
 
     protected BoundMethodHolder() {
         register(HELP_METHOD, new WeakReference<>(this.methods), true);
         register(HELP_METHOD_WITH_NAME, new WeakReference<>(this.methods), true);
+        register(SNAPSHOT_METHOD, new WeakReference<>(this), true);
+        register(SNAPSHOT_METHOD_WITH_NAMES, new WeakReference<>(this), true);
     }
 
     public <T> void register(MethodData<T> method, @Nullable WeakReference<T> subject, boolean isHelpMethod) {
@@ -71,6 +94,13 @@ public abstract class BoundMethodHolder {
             return method.threadSafe();
         }
 
+        /**
+         * {@return true if this method takes no arguments and returns a value without changing anything, and can therefore be included in a snapshot}
+         */
+        public boolean isReadableProperty() {
+            return !isHelpMethod && argumentNames().length == 0 && returnType() != void.class && (name().startsWith("get") || name().startsWith("is"));
+        }
+
         public String[] argumentNames() {
             return method.argumentNames();
         }
@@ -108,11 +138,95 @@ public abstract class BoundMethodHolder {
         public int hashCode() {
             int result = method.hashCode();
             T subject = unwrappedSubject();
-            result = 31 * result + (subject == null ? 0 : subject.hashCode());
+            if (isHelpMethod) {//hash helps by reference to match equals, as their subject contains or is the holder itself
+                result = 31 * result + System.identityHashCode(subject);
+            } else {
+                result = 31 * result + (subject == null ? 0 : subject.hashCode());
+            }
             return result;
         }
     }
 
+    /**
+     * Calls the given method, forgetting any values read for snapshots if the method may have changed something.
+     */
+    protected Object callMethod(BoundMethodData<?> md, BaseComputerHelper helper) throws ComputerException {
+        if (!md.isHelpMethod() && !md.isReadableProperty()) {
+            snapshotTick = -1;
+        }
+        return md.call(helper);
+    }
+
+    public static Object generateSnapshot(BoundMethodHolder holder, BaseComputerHelper helper) throws ComputerException {
+        if (holder == null) {
+            return helper.voidResult();
+        }
+        Map<String, Object> snapshot = new HashMap<>();
+        for (BoundMethodData<?> md : holder.methods.values()) {
+            if (md.isReadableProperty()) {
+                try {
+                    snapshot.put(md.name(), holder.readProperty(md, helper));
+                } catch (ComputerException e) {
+                    //Leave out properties that can't currently be read, such as ones that require a multiblock to be formed
+                }
+            }
+        }
+        return helper.convert(snapshot, helper::convert, value -> value);
+    }
+
+    public static Object generateSnapshotSpecific(BoundMethodHolder holder, BaseComputerHelper helper) throws ComputerException {
+        if (holder == null) {
+            return helper.voidResult();
+        }
+        List<String> properties = helper.getStringList(0);
+        Map<String, Object> snapshot = new HashMap<>(properties.size());
+        for (String name : properties) {
+            if (!snapshot.containsKey(name)) {
+                BoundMethodData<?> md = holder.getReadableProperty(name);
+                if (md == null) {
+                    throw new ComputerException("Unknown property: " + name);
+                }
+                try {
+                    snapshot.put(name, holder.readProperty(md, helper));
+                } catch (ComputerException e) {
+                    //Leave out properties that can't currently be read, such as ones that require a multiblock to be formed
+                }
+            }
+        }
+        return helper.convert(snapshot, helper::convert, value -> value);
+    }
+
+    @Nullable
+    private BoundMethodData<?> getReadableProperty(String name) {
+        for (BoundMethodData<?> md : methods.get(name)) {
+            if (md.isReadableProperty()) {
+                return md;
+            }
+        }
+        return null;
+    }
+
+    private Object readProperty(BoundMethodData<?> md, BaseComputerHelper helper) throws ComputerException {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return md.call(helper);
+        }
+        //Values are already converted for the computer helper that read them, so don't share them with other integrations
+        if (server.getTickCount() != snapshotTick || helper.getClass() != snapshotHelperType) {
+            snapshotTick = server.getTickCount();
+            snapshotHelperType = helper.getClass();
+            snapshotValues.clear();
+        }
+        Object value = snapshotValues.get(md.name());
+        if (value == null) {
+            value = md.call(helper);
+            if (value != null) {
+                snapshotValues.put(md.name(), value);
+            }
+        }
+        return value;
+    }
+
     public static Object generateHelp(ListMultimap<String, BoundMethodData<?>> methods, BaseComputerHelper helper) {
         if (methods == null) {
             return helper.voidResult();
@@ -3,6 +3,8 @@ package mekanism.common.integration.computer.computercraft;
 import dan200.computercraft.api.lua.IArguments;
 import dan200.computercraft.api.lua.LuaException;
 import dan200.computercraft.api.lua.MethodResult;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.integration.computer.BaseComputerHelper;
@@ -126,6 +128,21 @@ public class CCComputerHelper extends BaseComputerHelper {
         }
     }
 
+    @Override
+    @NotNull
+    public List<String> getStringList(int param) throws ComputerException {
+        Map<?, ?> table = getMap(param);
+        List<String> list = new ArrayList<>(table.size());
+        //Note: Lua lists are tables with sequential keys starting at one, and numbers are passed to us as doubles
+        for (int i = 1; i <= table.size(); i++) {
+            if (!(table.get((double) i) instanceof String value)) {
+                throw new ComputerException("Expected a list of strings in position " + param);
+            }
+            list.add(value);
+        }
+        return list;
+    }
+
     @Override
     @NotNull
     public String getString(int param) throws ComputerException {
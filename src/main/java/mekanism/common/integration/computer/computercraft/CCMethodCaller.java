@@ -45,10 +45,10 @@ public class CCMethodCaller extends BoundMethodHolder {
     }
 
     @NotNull
-    private static MethodResult callHandler(IArguments arguments, BoundMethodData<?> methodToCall) throws LuaException {
+    private MethodResult callHandler(IArguments arguments, BoundMethodData<?> methodToCall) throws LuaException {
         Object result;
         try {
-            result = methodToCall.call(new CCComputerHelper(arguments));
+            result = callMethod(methodToCall, new CCComputerHelper(arguments));
         } catch (ComputerException ex) {
             if (ex.getCause() instanceof LuaException luaException) {
                 throw luaException;
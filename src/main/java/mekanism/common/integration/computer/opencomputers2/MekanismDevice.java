@@ -104,7 +104,7 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> extends Bo
         }
     }
 
-    private static class Method implements RPCMethod {
+    private class Method implements RPCMethod {
 
         private final String name;
         private final BoundMethodData<?> methodData;
@@ -135,7 +135,7 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> extends Bo
         @Nullable
         @Override
         public Object invoke(RPCInvocation invocation) throws Throwable {
-            return methodData.call(new OC2ComputerHelper(invocation));
+            return callMethod(methodData, new OC2ComputerHelper(invocation));
         }
 
         @Override
@@ -2,11 +2,14 @@ package mekanism.common.integration.computer.opencomputers2;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import li.cil.oc2.api.bus.device.rpc.RPCInvocation;
 import mekanism.common.integration.computer.BaseComputerHelper;
 import mekanism.common.integration.computer.ComputerException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class OC2ComputerHelper extends BaseComputerHelper {
@@ -76,4 +79,20 @@ public class OC2ComputerHelper extends BaseComputerHelper {
     public Map<?, ?> getMap(int param) throws ComputerException {
         return getParam(param).getAsJsonObject().asMap();
     }
+
+    @Override
+    @NotNull
+    public List<String> getStringList(int param) throws ComputerException {
+        if (!(getParam(param) instanceof JsonArray array)) {
+            throw new ComputerException("Expected a list in position " + param);
+        }
+        List<String> list = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            if (!(element instanceof JsonPrimitive primitive) || !primitive.isString()) {
+                throw new ComputerException("Expected a list of strings in position " + param);
+            }
+            list.add(primitive.getAsString());
+        }
+        return list;
+    }
 }
@@ -17,6 +17,7 @@ import mekanism.api.chemical.pigment.PigmentStack;
 import mekanism.api.chemical.slurry.SlurryStack;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.slot.ArmorSlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.slot.IHasExtraData;
@@ -86,6 +87,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     protected final List<HotBarSlot> hotBarSlots = new ArrayList<>();
     protected final List<OffhandSlot> offhandSlots = new ArrayList<>();
     private final List<ISyncableData> trackedData = new ArrayList<>();
+    private int ticksSinceSync;
     private final Map<Object, List<ISyncableData>> specificTrackedData = new Object2ObjectOpenHashMap<>();
     /**
      * Keeps track of which window the player has open. Only used on the client, so doesn't need to keep track of other players.
@@ -663,18 +665,24 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         //Note: We don't bother firing data changed listeners as we have no use for them,
         // and if someone wants to attach one to our containers they can explain what use
         // they need it for before we add a bunch of extra logic to handle them
-        if (inv.player instanceof ServerPlayer player) {
+        //Note: Syncable data only updates its last known value when it is checked, so any changes that happen between syncs are still sent on the next one
+        if (inv.player instanceof ServerPlayer player && ++ticksSinceSync >= MekanismConfig.general.containerSyncInterval.get()) {
+            ticksSinceSync = 0;
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            List<PropertyData> dirtyData = null;
             RegistryAccess registryAccess = player.level().registryAccess();
-            for (short i = 0; i < trackedData.size(); i++) {
+            for (short i = 0, size = (short) trackedData.size(); i < size; i++) {
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
+                    if (dirtyData == null) {
+                        //Lazily initialize the list so that we don't have to create one for the majority of ticks where nothing changed
+                        dirtyData = new ArrayList<>();
+                    }
                     dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
                 }
             }
-            if (!dirtyData.isEmpty()) {
+            if (dirtyData != null) {
                 PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
             }
         }
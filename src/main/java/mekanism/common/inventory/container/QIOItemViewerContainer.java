@@ -1,5 +1,8 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -71,6 +74,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection;
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    /**
+     * Types keyed by the id the server gave them for this viewing session.
+     */
+    private Int2ObjectMap<UUIDAwareHashedItem> sessionTypes = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -133,6 +140,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.sessionTypes = sessionTypes;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
@@ -343,23 +351,32 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         cachedInventory = itemMap;
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
+        //The server gives the types in a batch sync ids in the order they are sent, starting a new session
+        sessionTypes = new Int2ObjectOpenHashMap<>(itemMap.size());
+        for (UUIDAwareHashedItem type : itemMap.keySet()) {
+            sessionTypes.put(sessionTypes.size(), type);
+        }
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleUpdate(Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap countChanges, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        if (itemMap.isEmpty()) {
+        sessionTypes.putAll(newTypes);
+        if (countChanges.isEmpty()) {
             //No items need updating, we just changed the counts/capacities, in general this should never be the case, but in case it is
             // just short circuit a lot of logic
             return;
         }
-        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
-            long value = entry.getLongValue();
-            if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
+        for (Int2LongMap.Entry entry : countChanges.int2LongEntrySet()) {
+            UUIDAwareHashedItem type = sessionTypes.get(entry.getIntKey());
+            if (type != null) {
+                long value = cachedInventory.getLong(type) + entry.getLongValue();
+                if (value <= 0) {
+                    cachedInventory.removeLong(type);
+                } else {
+                    cachedInventory.put(type, value);
+                }
             }
         }
         syncItemList();
@@ -369,6 +386,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        sessionTypes.clear();
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
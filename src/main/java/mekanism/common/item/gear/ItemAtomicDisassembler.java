@@ -2,7 +2,6 @@ package mekanism.common.item.gear;
 
 import com.mojang.serialization.Codec;
 import io.netty.buffer.ByteBuf;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMaps;
 import java.util.List;
 import java.util.Locale;
@@ -32,6 +31,8 @@ import mekanism.common.MekanismLang;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.gear.mekatool.ModuleExcavationEscalationUnit.ExcavationMode;
 import mekanism.common.content.gear.mekatool.ModuleVeinMiningUnit;
+import mekanism.common.content.gear.mekatool.VeinMiningManager;
+import mekanism.common.content.gear.mekatool.VeinMiningSearch;
 import mekanism.common.item.ItemEnergized;
 import mekanism.common.item.gear.ItemAtomicDisassembler.DisassemblerMode;
 import mekanism.common.item.interfaces.IHasConditionalAttributes;
@@ -171,11 +172,10 @@ public class ItemAtomicDisassembler extends ItemEnergized implements IItemHUDPro
                 energyContainer.extract(energyRequired, Action.SIMULATE, AutomationType.MANUAL).greaterOrEqual(energyRequired)) {
                 // Only allow mining things that are considered an ore
                 if (ModuleVeinMiningUnit.canVeinBlock(state) && state.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE)) {
-                    Object2IntMap<BlockPos> found = ModuleVeinMiningUnit.findPositions(world, Map.of(pos, state), 0,
-                          Reference2BooleanMaps.singleton(state.getBlock(), true));
-                    MekanismUtils.veinMineArea(energyContainer, energyRequired, FloatingLong.ZERO, baseDestroyEnergy, world, pos, player, stack, this, found,
-                          (base, hardness) -> FloatingLong.ZERO,
-                          (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness).multiply(0.5 * Math.pow(distance, 1.5)));
+                    VeinMiningSearch search = new VeinMiningSearch(world, Map.of(pos, state), 0, Reference2BooleanMaps.singleton(state.getBlock(), true));
+                    VeinMiningManager.start(player, stack, search, (container, veinSearch, maxBlocks, swingTick) -> MekanismUtils.veinMineArea(container, energyRequired, FloatingLong.ZERO,
+                          baseDestroyEnergy, world, pos, player, stack, this, veinSearch, maxBlocks, swingTick, (base, hardness) -> FloatingLong.ZERO,
+                          (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness).multiply(0.5 * Math.pow(distance, 1.5))));
                 }
             }
         }
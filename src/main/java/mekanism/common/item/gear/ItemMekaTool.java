@@ -1,13 +1,12 @@
 package mekanism.common.item.gear;
 
-import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanArrayMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMaps;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import mekanism.api.Action;
@@ -33,6 +32,8 @@ import mekanism.common.content.gear.mekatool.ModuleBlastingUnit;
 import mekanism.common.content.gear.mekatool.ModuleExcavationEscalationUnit;
 import mekanism.common.content.gear.mekatool.ModuleTeleportationUnit;
 import mekanism.common.content.gear.mekatool.ModuleVeinMiningUnit;
+import mekanism.common.content.gear.mekatool.VeinMiningManager;
+import mekanism.common.content.gear.mekatool.VeinMiningSearch;
 import mekanism.common.item.ItemEnergized;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.PacketPortalFX;
@@ -260,13 +261,13 @@ public class ItemMekaTool extends ItemEnergized implements IRadialModuleContaine
                 Reference2BooleanMap<Block> oreTracker = blocks.values().stream().collect(Collectors.toMap(BlockStateBase::getBlock,
                       bs -> bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE), (l, r) -> l, Reference2BooleanArrayMap::new));
 
-                Object2IntMap<BlockPos> veinedBlocks = getVeinedBlocks(world, stack, blocks, oreTracker);
-                if (!veinedBlocks.isEmpty()) {
+                VeinMiningSearch search = getVeinSearch(world, stack, blocks, oreTracker);
+                if (!search.isEmpty()) {
                     //Don't include bonus energy required by efficiency modules when calculating energy of vein mining targets
                     FloatingLong baseDestroyEnergy = getDestroyEnergy(silk);
-                    MekanismUtils.veinMineArea(energyContainer, energyRequired, modDestroyEnergy, baseDestroyEnergy, world, pos, player, stack, this, veinedBlocks,
-                          ItemMekaTool::getDestroyEnergy, (base, hardness, distance, bs) -> getDestroyEnergy(base, hardness)
-                                .multiply(0.5 * Math.pow(distance, bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE) ? 1.5 : 2)));
+                    VeinMiningManager.start(player, stack, search, (container, veinSearch, maxBlocks, swingTick) -> MekanismUtils.veinMineArea(container, energyRequired, modDestroyEnergy,
+                          baseDestroyEnergy, world, pos, player, stack, this, veinSearch, maxBlocks, swingTick, ItemMekaTool::getDestroyEnergy, (base, hardness, distance, bs) ->
+                                getDestroyEnergy(base, hardness).multiply(0.5 * Math.pow(distance, bs.is(MekanismTags.Blocks.ATOMIC_DISASSEMBLER_ORE) ? 1.5 : 2))));
                 }
             }
         }
@@ -308,13 +309,14 @@ public class ItemMekaTool extends ItemEnergized implements IRadialModuleContaine
         return Collections.emptyMap();
     }
 
-    private Object2IntMap<BlockPos> getVeinedBlocks(Level world, ItemStack stack, Map<BlockPos, BlockState> blocks, Reference2BooleanMap<Block> oreTracker) {
+    private VeinMiningSearch getVeinSearch(Level world, ItemStack stack, Map<BlockPos, BlockState> blocks, Reference2BooleanMap<Block> oreTracker) {
         IModule<ModuleVeinMiningUnit> veinMiningUnit = getEnabledModule(stack, MekanismModules.VEIN_MINING_UNIT);
         if (veinMiningUnit != null) {
             ModuleVeinMiningUnit customInstance = veinMiningUnit.getCustomInstance();
-            return ModuleVeinMiningUnit.findPositions(world, blocks, customInstance.extended() ? customInstance.getExcavationRange() : 0, oreTracker);
+            return new VeinMiningSearch(world, blocks, customInstance.extended() ? customInstance.getExcavationRange() : 0, oreTracker);
         }
-        return blocks.entrySet().stream().collect(Collectors.toMap(Entry::getKey, be -> 0, (l, r) -> l, Object2IntArrayMap::new));
+        //Without a vein mining unit just mine the blasted blocks without searching past them
+        return new VeinMiningSearch(world, blocks, 0, Reference2BooleanMaps.emptyMap());
     }
 
     private static FloatingLong getDestroyEnergy(boolean silk) {
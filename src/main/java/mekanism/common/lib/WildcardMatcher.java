@@ -13,32 +13,77 @@ public class WildcardMatcher {
     }
 
     public static boolean matches(String wildcard, String text) {
-        return matches(wildcard.toLowerCase(Locale.ROOT), text.toLowerCase(Locale.ROOT), 0, 0, false);
+        return matchesLowerCase(wildcard.toLowerCase(Locale.ROOT), text.toLowerCase(Locale.ROOT));
     }
 
-    private static boolean matches(String wildcard, String text, int wildcardStartIndex, int textIndex, boolean continueSearch) {
-        for (int wildcardIndex = wildcardStartIndex; wildcardIndex < wildcard.length(); wildcardIndex++) {
-            char wc = wildcard.charAt(wildcardIndex);
-            boolean fail = false;
-            if (wc == '*') {
-                return matches(wildcard, text, wildcardIndex + 1, textIndex, true);
-            } else if (textIndex >= text.length()) {
-                return false;
-            } else if (wc == '#') {
-                if (!Character.isDigit(text.charAt(textIndex))) {
-                    fail = true;
+    /**
+     * Compiles the given wildcard so that it can be tested against many strings without having to process the wildcard again each time.
+     */
+    public static CompiledWildcard compile(String wildcard) {
+        String lowerCase = wildcard.toLowerCase(Locale.ROOT);
+        for (int i = 0, length = lowerCase.length(); i < length; i++) {
+            char c = lowerCase.charAt(i);
+            if (c == '*' || c == '?' || c == '#') {
+                return new CompiledWildcard(lowerCase, false);
+            }
+        }
+        return new CompiledWildcard(lowerCase, true);
+    }
+
+    /**
+     * Matches the wildcard against the text by going through both in a single pass, and when a character doesn't match going back to just after the last {@code *} and
+     * letting it absorb one more character of the text.
+     *
+     * @implNote Both the wildcard and the text are expected to already be lower case.
+     */
+    private static boolean matchesLowerCase(String wildcard, String text) {
+        int wildcardLength = wildcard.length();
+        int textLength = text.length();
+        int wildcardIndex = 0;
+        int textIndex = 0;
+        int starIndex = -1;
+        int starTextIndex = 0;
+        while (textIndex < textLength) {
+            if (wildcardIndex < wildcardLength) {
+                char wc = wildcard.charAt(wildcardIndex);
+                if (wc == '*') {
+                    starIndex = wildcardIndex++;
+                    starTextIndex = textIndex;
+                    continue;
                 }
-            } else if (wc != '?') {
-                if (wc != text.charAt(textIndex)) {
-                    fail = true;
+                char tc = text.charAt(textIndex);
+                if (wc == '?' || (wc == '#' ? Character.isDigit(tc) : wc == tc)) {
+                    wildcardIndex++;
+                    textIndex++;
+                    continue;
                 }
             }
-            if (fail) {
-                return continueSearch && matches(wildcard, text, wildcardStartIndex, textIndex + 1, true);
+            if (starIndex == -1) {
+                return false;
             }
-            textIndex++;
+            wildcardIndex = starIndex + 1;
+            textIndex = ++starTextIndex;
+        }
+        //Any wildcard left after the text has run out can only match if it is all *
+        while (wildcardIndex < wildcardLength && wildcard.charAt(wildcardIndex) == '*') {
+            wildcardIndex++;
+        }
+        return wildcardIndex == wildcardLength;
+    }
+
+    /**
+     * A wildcard that has already been lower-cased, and that knows whether it has any wildcard characters or can just be compared directly.
+     */
+    public record CompiledWildcard(String wildcard, boolean literal) {
+
+        public boolean matches(TagKey<?> key) {
+            return matches(key.location().toString());
+        }
+
+        public boolean matches(String text) {
+            //Note: toLowerCase returns the same string if there is nothing to change, which is the case for resource locations and mod ids
+            text = text.toLowerCase(Locale.ROOT);
+            return literal ? wildcard.equals(text) : matchesLowerCase(wildcard, text);
         }
-        // break if there's more text left, and we didn't end our query with a wildcard char
-        return textIndex >= text.length() || (!wildcard.isEmpty() && wildcard.charAt(wildcard.length() - 1) == '*');
     }
 }
@@ -0,0 +1,156 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of primitive long keys ordered by a double priority. Keeps track of where each key is stored in the heap so that priorities can be decreased (or
+ * increased) in {@code O(log n)} without having to scan the heap.
+ */
+public class LongIndexedMinHeap {
+
+    private static final int NOT_PRESENT = -1;
+
+    private final Long2IntOpenHashMap indices;
+    private long[] keys;
+    private double[] priorities;
+    private int size;
+
+    public LongIndexedMinHeap() {
+        this(16);
+    }
+
+    public LongIndexedMinHeap(int expectedSize) {
+        expectedSize = Math.max(expectedSize, 1);
+        indices = new Long2IntOpenHashMap(expectedSize);
+        indices.defaultReturnValue(NOT_PRESENT);
+        keys = new long[expectedSize];
+        priorities = new double[expectedSize];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long key) {
+        return indices.containsKey(key);
+    }
+
+    /**
+     * Adds the given key with the given priority, or if the key is already present updates its priority.
+     */
+    public void addOrUpdate(long key, double priority) {
+        int index = indices.get(key);
+        if (index == NOT_PRESENT) {
+            if (size == keys.length) {
+                int newLength = keys.length << 1;
+                keys = Arrays.copyOf(keys, newLength);
+                priorities = Arrays.copyOf(priorities, newLength);
+            }
+            index = size++;
+            keys[index] = key;
+            priorities[index] = priority;
+            indices.put(key, index);
+            siftUp(index);
+        } else {
+            double old = priorities[index];
+            priorities[index] = priority;
+            if (priority < old) {
+                siftUp(index);
+            } else if (priority > old) {
+                siftDown(index);
+            }
+        }
+    }
+
+    /**
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes the key with the lowest priority and returns it.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long poll() {
+        long min = peekKey();
+        indices.remove(min);
+        size--;
+        if (size > 0) {
+            keys[0] = keys[size];
+            priorities[0] = priorities[size];
+            indices.put(keys[0], 0);
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        indices.clear();
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        long key = keys[index];
+        double priority = priorities[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        keys[index] = key;
+        priorities[index] = priority;
+        indices.put(key, index);
+    }
+
+    private void siftDown(int index) {
+        long key = keys[index];
+        double priority = priorities[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && priorities[right] < priorities[child]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        keys[index] = key;
+        priorities[index] = priority;
+        indices.put(key, index);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        priorities[to] = priorities[from];
+        indices.put(keys[to], to);
+    }
+}
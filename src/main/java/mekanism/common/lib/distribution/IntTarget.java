@@ -0,0 +1,271 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+
+/**
+ * Primitive {@code int} specialization of {@link Target} that keeps the handlers and how much they need in reusable arrays so that distributing contents doesn't box
+ * any values or allocate any collections. Distributes contents with exactly the same split as {@link Target} does when used with {@link IntegerSplitInfo}.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class IntTarget<HANDLER, EXTRA> {
+
+    private Object[] handlers;
+    private int handlerCount;
+
+    /**
+     * Indices of handlers that want more than we can/are willing to provide, in the order they were found.
+     */
+    private int[] neededHandlers;
+    /**
+     * Amounts the handlers in {@link #neededHandlers} want.
+     */
+    private int[] neededAmounts;
+    private int neededCount;
+
+    //Split info
+    private int toSplitAmong;
+    private int amountToSplit;
+    private int amountPerTarget;
+    private int sentSoFar;
+    private int remainder;
+    private boolean amountPerChanged;
+    private boolean decrementTargets = true;
+
+    protected EXTRA extra;
+
+    protected IntTarget() {
+        this(8);
+    }
+
+    protected IntTarget(int expectedSize) {
+        expectedSize = Math.max(expectedSize, 1);
+        handlers = new Object[expectedSize];
+        neededHandlers = new int[expectedSize];
+        neededAmounts = new int[expectedSize];
+    }
+
+    public void addHandler(HANDLER handler) {
+        if (handlerCount == handlers.length) {
+            int newLength = handlers.length << 1;
+            handlers = Arrays.copyOf(handlers, newLength);
+            neededHandlers = Arrays.copyOf(neededHandlers, newLength);
+            neededAmounts = Arrays.copyOf(neededAmounts, newLength);
+        }
+        handlers[handlerCount++] = handler;
+    }
+
+    public int getHandlerCount() {
+        return handlerCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    public HANDLER getHandler(int index) {
+        return (HANDLER) handlers[index];
+    }
+
+    /**
+     * Removes all handlers from this target so that it can be reused without having to reallocate the backing arrays.
+     */
+    public void clear() {
+        Arrays.fill(handlers, 0, handlerCount, null);
+        handlerCount = 0;
+        neededCount = 0;
+    }
+
+    /**
+     * Distributes the given amount fairly among all the handlers of this target.
+     *
+     * @param amountToSplit The amount to split between all the handlers.
+     * @param toSend        Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public int send(int amountToSplit, EXTRA toSend) {
+        if (handlerCount == 0) {
+            return 0;
+        }
+        startSplit(amountToSplit);
+        //Simulate addition, sending when the requested amount is less than the amountPer
+        sendPossible(toSend);
+        //Only run this if we changed the amountPer from when we first/last ran things
+        while (amountPerChanged) {
+            amountPerChanged = false;
+            shiftNeeded();
+        }
+        //Evenly distribute the remaining amount we have to give between all handlers
+        sendRemainingSplit();
+        neededCount = 0;
+        return sentSoFar;
+    }
+
+    private void startSplit(int amountToSplit) {
+        this.toSplitAmong = handlerCount;
+        this.amountToSplit = amountToSplit;
+        this.amountPerTarget = amountToSplit / toSplitAmong;
+        this.remainder = amountToSplit % toSplitAmong;
+        this.sentSoFar = 0;
+        this.amountPerChanged = false;
+        this.decrementTargets = true;
+        this.neededCount = 0;
+    }
+
+    /**
+     * @see IntegerSplitInfo#send(Integer)
+     */
+    private void markSent(int amountNeeded) {
+        amountToSplit -= amountNeeded;
+        sentSoFar += amountNeeded;
+        if (!decrementTargets) {
+            int difference = amountNeeded - amountPerTarget;
+            if (difference > 0) {
+                //If we removed more than we have per target, we need to remove the excess from our remainder
+                remainder -= difference;
+            }
+            return;
+        }
+        toSplitAmong--;
+        //Only recalculate it if it is not willing to accept/doesn't want the full per side split
+        if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
+            int amountPerLast = amountPerTarget;
+            amountPerTarget = amountToSplit / toSplitAmong;
+            remainder = amountToSplit % toSplitAmong;
+            if (!amountPerChanged && amountPerTarget != amountPerLast) {
+                amountPerChanged = true;
+            }
+        }
+    }
+
+    private int getRemainderAmount() {
+        if (toSplitAmong != 0 && remainder > 0) {
+            //If we have a remainder, be willing to provide a single unit as the remainder so that we split the remainder more evenly across the targets.
+            return amountPerTarget + 1;
+        }
+        return amountPerTarget;
+    }
+
+    private int getUnsent() {
+        return amountToSplit;
+    }
+
+    private void accept(int handlerIndex, int amount) {
+        markSent(acceptAmount(getHandler(handlerIndex), amount));
+    }
+
+    private void addNeeded(int handlerIndex, int amount) {
+        neededHandlers[neededCount] = handlerIndex;
+        neededAmounts[neededCount] = amount;
+        neededCount++;
+    }
+
+    /**
+     * @see Target#sendPossible(Object, SplitInfo)
+     */
+    private void sendPossible(EXTRA toSend) {
+        if (amountPerTarget == 0) {
+            //We are all remainder, just calculate how much each can accept
+            for (int i = 0; i < handlerCount; i++) {
+                int amountNeeded = simulate(getHandler(i), toSend);
+                if (amountNeeded != 0) {
+                    addNeeded(i, amountNeeded);
+                }
+            }
+        } else {
+            for (int i = 0; i < handlerCount; i++) {
+                int amountNeeded = simulate(getHandler(i), toSend);
+                if (amountNeeded <= amountPerTarget) {
+                    //Note: We can skip actually running it if it doesn't need anything
+                    if (amountNeeded != 0) {
+                        accept(i, amountNeeded);
+                    }
+                } else {
+                    addNeeded(i, amountNeeded);
+                }
+            }
+        }
+    }
+
+    /**
+     * @see Target#shiftNeeded(SplitInfo)
+     */
+    private void shiftNeeded() {
+        if (amountPerTarget == 0) {
+            return;
+        }
+        //Compact the needed arrays in place as we send to the handlers, so that the order of the remaining ones is preserved
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            int amountNeeded = neededAmounts[i];
+            if (amountNeeded <= amountPerTarget) {
+                accept(neededHandlers[i], amountNeeded);
+            } else {
+                neededHandlers[kept] = neededHandlers[i];
+                neededAmounts[kept] = amountNeeded;
+                kept++;
+            }
+        }
+        neededCount = kept;
+    }
+
+    /**
+     * @see Target#sendRemainingSplit(SplitInfo)
+     */
+    private void sendRemainingSplit() {
+        if (neededCount == 0 || getRemainderAmount() == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            int remainderAmount = getRemainderAmount();
+            if (remainderAmount == 0) {
+                //We finished inserting everything we wanted to, we can just exit
+                return;
+            }
+            int handlerIndex = neededHandlers[i];
+            int amountNeeded = neededAmounts[i];
+            if (amountNeeded <= remainderAmount) {
+                accept(handlerIndex, amountNeeded);
+            } else {
+                decrementTargets = false;
+                accept(handlerIndex, remainderAmount);
+                decrementTargets = true;
+                neededHandlers[kept] = handlerIndex;
+                neededAmounts[kept] = amountNeeded;
+                kept++;
+            }
+        }
+        neededCount = kept;
+        if (getUnsent() != 0) {
+            //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
+            for (int i = 0; i < neededCount; i++) {
+                int remaining = getUnsent();
+                if (remaining == 0) {
+                    //We finished, exit
+                    return;
+                }
+                accept(neededHandlers[i], remaining);
+            }
+        }
+    }
+
+    /**
+     * Gives the handler the given amount.
+     *
+     * @param handler Handler to give to.
+     * @param amount  Amount to give.
+     *
+     * @return The amount the handler actually accepted.
+     */
+    protected abstract int acceptAmount(HANDLER handler, int amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler.
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract int simulate(HANDLER handler, EXTRA extra);
+}
@@ -52,6 +52,17 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         return handlerCount;
     }
 
+    /**
+     * Removes all handlers and any amounts they still needed so that this target can be reused.
+     *
+     * @implNote Not supported by targets created with a fixed collection of handlers.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+        handlerCount = 0;
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
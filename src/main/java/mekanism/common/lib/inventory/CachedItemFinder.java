@@ -0,0 +1,58 @@
+package mekanism.common.lib.inventory;
+
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.function.Predicate;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Finder for checks that only depend on the item of a stack and not its components, such as tags. This allows remembering the result for each item, so that
+ * testing the same item again only costs a single lookup. The remembered results are forgotten whenever tags are reloaded.
+ *
+ * @apiNote Not thread safe, and should only be used from the server thread.
+ */
+public final class CachedItemFinder implements Finder {
+
+    private static int tagGeneration;
+
+    /**
+     * Called when tags may have changed to make all cached item finders forget their results.
+     */
+    public static void onTagsReloaded() {
+        tagGeneration++;
+    }
+
+    private final Reference2BooleanMap<Item> results = new Reference2BooleanOpenHashMap<>();
+    private final Predicate<ItemStack> matcher;
+    private int generation = tagGeneration;
+
+    /**
+     * @param matcher Check to perform the first time an item is tested. Will only be called with non-empty stacks.
+     */
+    CachedItemFinder(Predicate<ItemStack> matcher) {
+        this.matcher = matcher;
+    }
+
+    Predicate<ItemStack> getMatcher() {
+        return matcher;
+    }
+
+    @Override
+    public boolean test(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return false;
+        }
+        if (generation != tagGeneration) {
+            results.clear();
+            generation = tagGeneration;
+        }
+        Item item = stack.getItem();
+        if (results.containsKey(item)) {
+            return results.getBoolean(item);
+        }
+        boolean matches = matcher.test(stack);
+        results.put(item, matches);
+        return matches;
+    }
+}
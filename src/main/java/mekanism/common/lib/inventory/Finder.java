@@ -1,7 +1,10 @@
 package mekanism.common.lib.inventory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -30,10 +33,60 @@ public interface Finder extends Predicate<ItemStack> {
     }
 
     static Finder tag(String tagName) {
-        return stack -> !stack.isEmpty() && stack.getTags().anyMatch(tag -> WildcardMatcher.matches(tagName, tag));
+        CompiledWildcard wildcard = WildcardMatcher.compile(tagName);
+        return new CachedItemFinder(stack -> stack.getTags().anyMatch(wildcard::matches));
     }
 
     static Finder modID(String modID) {
-        return stack -> !stack.isEmpty() && WildcardMatcher.matches(modID, MekanismUtils.getModId(stack));
+        CompiledWildcard wildcard = WildcardMatcher.compile(modID);
+        //Note: We can't cache this per item as the creator mod id may depend on the components of the stack (for example enchanted books or spawn eggs)
+        return stack -> !stack.isEmpty() && wildcard.matches(MekanismUtils.getModId(stack));
+    }
+
+    /**
+     * Combines the given finders into a single finder that matches if any of them do. Finders that only depend on the item of the stack are merged into one, so that
+     * testing an item that was already tested only costs a single lookup no matter how many of them there are.
+     */
+    static Finder anyOf(List<Finder> finders) {
+        if (finders.isEmpty()) {
+            return NONE;
+        } else if (finders.size() == 1) {
+            return finders.getFirst();
+        }
+        List<Predicate<ItemStack>> itemMatchers = new ArrayList<>();
+        List<Finder> others = new ArrayList<>();
+        for (Finder finder : finders) {
+            if (finder instanceof CachedItemFinder cachedFinder) {
+                itemMatchers.add(cachedFinder.getMatcher());
+            } else {
+                others.add(finder);
+            }
+        }
+        Finder itemFinder = switch (itemMatchers.size()) {
+            case 0 -> NONE;
+            case 1 -> new CachedItemFinder(itemMatchers.getFirst());
+            default -> new CachedItemFinder(stack -> {
+                for (Predicate<ItemStack> matcher : itemMatchers) {
+                    if (matcher.test(stack)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        };
+        if (others.isEmpty()) {
+            return itemFinder;
+        }
+        return stack -> {
+            if (itemFinder.test(stack)) {
+                return true;
+            }
+            for (Finder other : others) {
+                if (other.test(stack)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 }
\ No newline at end of file
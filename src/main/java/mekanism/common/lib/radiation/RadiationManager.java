@@ -3,6 +3,8 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -45,6 +47,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtOps;
@@ -65,6 +68,7 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
@@ -116,6 +120,7 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSourceIndex sourceIndex = new RadiationSourceIndex();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -189,6 +194,7 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            sourceIndex.removeChunk(chunk.dimension, chunk.x, chunk.z);
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -197,8 +203,9 @@ public class RadiationManager implements IRadiationManager {
     @Override
     public void removeRadiationSource(GlobalPos pos) {
         Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
+        RadiationSource source = radiationTable.remove(chunk, pos);
+        if (source != null) {
+            sourceIndex.remove(source);
             markDirty();
             updateClientRadiationForAll(pos.dimension());
         }
@@ -223,25 +230,43 @@ public class RadiationManager implements IRadiationManager {
         if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
             return LevelAndMaxMagnitude.BASELINE;
         }
+        Long2ObjectMap<List<RadiationSource>> chunks = sourceIndex.getChunks(pos.dimension());
+        if (chunks == null) {//Short circuit when there are no sources in the dimension
+            return LevelAndMaxMagnitude.BASELINE;
+        }
         double level = BASELINE;
         double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
+        BlockPos center = pos.pos();
         int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
         // we only compute exposure when within the MAX_RANGE bounds
         double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+        int centerX = SectionPos.blockToSectionCoord(center.getX());
+        int centerZ = SectionPos.blockToSectionCoord(center.getZ());
+        int diameter = 2 * radius + 1;
+        if (chunks.size() < diameter * diameter) {
+            //If there are fewer chunks with sources in them than there are chunks in range, check the chunks with sources rather than probing every chunk in range
+            for (Long2ObjectMap.Entry<List<RadiationSource>> entry : Long2ObjectMaps.fastIterable(chunks)) {
+                long chunkKey = entry.getLongKey();
+                if (Math.abs(ChunkPos.getX(chunkKey) - centerX) <= radius && Math.abs(ChunkPos.getZ(chunkKey) - centerZ) <= radius) {
+                    for (RadiationSource source : entry.getValue()) {
+                        if (source.getPos().pos().distSqr(center) <= maxRange) {
+                            level += computeExposure(pos, source);
+                            maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+                        }
+                    }
+                }
+            }
+        } else {
+            for (int i = centerX - radius, maxX = centerX + radius; i <= maxX; i++) {
+                for (int j = centerZ - radius, maxZ = centerZ + radius; j <= maxZ; j++) {
+                    List<RadiationSource> sources = chunks.get(ChunkPos.asLong(i, j));
+                    if (sources != null) {
+                        for (RadiationSource source : sources) {
+                            if (source.getPos().pos().distSqr(center) <= maxRange) {
+                                level += computeExposure(pos, source);
+                                maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+                            }
+                        }
                     }
                 }
             }
@@ -257,7 +282,9 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
         RadiationSource src = radiationSourceMap.get(pos);
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            src = new RadiationSource(pos, magnitude);
+            radiationSourceMap.put(pos, src);
+            sourceIndex.add(src);
         } else {
             src.radiate(magnitude);
         }
@@ -319,6 +346,7 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndex.clear();
             markDirty();
             updateClientRadiationForAll();
         }
@@ -486,7 +514,13 @@ public class RadiationManager implements IRadiationManager {
                 // near the player if they are walking around while ticks are frozen
                 if (tickingNormally) {
                     // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
+                    for (Iterator<RadiationSource> iterator = sources.iterator(); iterator.hasNext(); ) {
+                        RadiationSource source = iterator.next();
+                        if (source.decay()) {
+                            iterator.remove();
+                            sourceIndex.remove(source);
+                        }
+                    }
                     //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                     markDirty();
                 }
@@ -513,6 +547,7 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndex.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -660,7 +695,11 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    RadiationSource previous = manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    if (previous != null) {
+                        manager.sourceIndex.remove(previous);
+                    }
+                    manager.sourceIndex.add(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
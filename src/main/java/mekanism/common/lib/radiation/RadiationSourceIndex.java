@@ -0,0 +1,84 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per dimension grid of radiation sources bucketed by the packed position of the chunk they are in, so that looking up the sources near a position only has to check the
+ * nearby chunks that actually have sources in them.
+ */
+class RadiationSourceIndex {
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<List<RadiationSource>>> dimensions = new Object2ObjectOpenHashMap<>();
+
+    void add(RadiationSource source) {
+        Long2ObjectMap<List<RadiationSource>> chunks = dimensions.get(source.getPos().dimension());
+        if (chunks == null) {
+            chunks = new Long2ObjectOpenHashMap<>();
+            dimensions.put(source.getPos().dimension(), chunks);
+        }
+        long chunkKey = getChunkKey(source.getPos().pos());
+        List<RadiationSource> sources = chunks.get(chunkKey);
+        if (sources == null) {
+            sources = new ArrayList<>(1);
+            chunks.put(chunkKey, sources);
+        }
+        sources.add(source);
+    }
+
+    void remove(RadiationSource source) {
+        Long2ObjectMap<List<RadiationSource>> chunks = dimensions.get(source.getPos().dimension());
+        if (chunks != null) {
+            long chunkKey = getChunkKey(source.getPos().pos());
+            List<RadiationSource> sources = chunks.get(chunkKey);
+            if (sources != null) {
+                //Note: We remove by identity as the equals implementation of radiation sources also compares the magnitude
+                for (int i = 0, size = sources.size(); i < size; i++) {
+                    if (sources.get(i) == source) {
+                        sources.remove(i);
+                        break;
+                    }
+                }
+                if (sources.isEmpty()) {
+                    chunks.remove(chunkKey);
+                    if (chunks.isEmpty()) {
+                        dimensions.remove(source.getPos().dimension());
+                    }
+                }
+            }
+        }
+    }
+
+    void removeChunk(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+        Long2ObjectMap<List<RadiationSource>> chunks = dimensions.get(dimension);
+        if (chunks != null && chunks.remove(ChunkPos.asLong(chunkX, chunkZ)) != null && chunks.isEmpty()) {
+            dimensions.remove(dimension);
+        }
+    }
+
+    void clear() {
+        dimensions.clear();
+    }
+
+    /**
+     * {@return the sources in the given dimension keyed by the packed position of the chunk they are in, or {@code null} if there are no sources in the dimension}
+     */
+    @Nullable
+    Long2ObjectMap<List<RadiationSource>> getChunks(ResourceKey<Level> dimension) {
+        return dimensions.get(dimension);
+    }
+
+    private static long getChunkKey(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+}
@@ -1,6 +1,5 @@
 package mekanism.common.lib.transmitter;
 
-import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.Collection;
@@ -9,8 +8,8 @@ import java.util.UUID;
 import java.util.function.LongConsumer;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.lib.math.Range3D;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.neoforged.bus.api.Event;
 import org.jetbrains.annotations.NotNull;
@@ -26,7 +25,7 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     protected boolean needsUpdate;
     private boolean forceScaleUpdate;
     private long lastSaveShareWriteTime;
-    private long lastMarkDirtyTime;
+    private boolean hasUnsavedContents;
     public float currentScale;
 
     protected DynamicBufferedNetwork(UUID networkID) {
@@ -74,6 +73,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         needsUpdate = true;
         //Flush the cached packet range. Eventually we may want to improve how it is cached some
         packetRange = null;
+        //The buffer is now split between more transmitters, so make sure the new shares get saved
+        markDirty();
     }
 
     @Override
@@ -82,6 +83,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         chunks.addAll(net.chunks);
         //Update the capacity
         updateCapacity();
+        //The buffer is now split between more transmitters, so make sure the new shares get saved
+        markDirty();
         return transmittersToUpdate;
     }
 
@@ -94,11 +97,29 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void onTransmittersRemoved() {
+        super.onTransmittersRemoved();
+        chunks.clear();
+        for (TRANSMITTER transmitter : getTransmitters()) {
+            chunks.add(ChunkPos.asLong(transmitter.getBlockPos()));
+        }
+        updateCapacity();
+        clampBuffer();
+        markDirty();
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
         chunks.clear();
         packetRange = null;
+        if (hasUnsavedContents) {
+            hasUnsavedContents = false;
+            TransmitterNetworkRegistry.getInstance().removeUnsavedNetwork(this);
+        }
     }
 
     protected abstract void forceScaleUpdate();
@@ -168,13 +189,29 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         }
     }
 
+    /**
+     * Marks that the contents of this network have changed and need to be saved. Rather than marking all the chunks the network is in as dirty each time the contents
+     * change, this marks the level's {@link NetworkBufferStore} as dirty, and the shares get written to it when the level saves.
+     */
     public void markDirty() {
-        if (world != null && !world.isClientSide && world.getGameTime() != lastMarkDirtyTime) {
-            lastMarkDirtyTime = world.getGameTime();
-            for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
-                long chunk = iterator.nextLong();
-                WorldUtils.markChunkDirty(world, ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
-            }
+        if (!hasUnsavedContents && world instanceof ServerLevel level) {
+            hasUnsavedContents = true;
+            TransmitterNetworkRegistry.getInstance().addUnsavedNetwork(this);
+            NetworkBufferStore.get(level).setDirty();
+        }
+    }
+
+    /**
+     * Writes the current share of each transmitter in this network to the given store.
+     */
+    void storeShares(NetworkBufferStore store) {
+        hasUnsavedContents = false;
+        if (world != null) {
+            lastSaveShareWriteTime = world.getGameTime();
+        }
+        updateSaveShares(null);
+        for (TRANSMITTER transmitter : getTransmitters()) {
+            store.storeShare(transmitter);
         }
     }
 
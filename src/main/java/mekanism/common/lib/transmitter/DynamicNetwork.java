@@ -1,5 +1,8 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
@@ -107,6 +110,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void invalidate(@Nullable TRANSMITTER triggerTransmitter) {
+        if (triggerTransmitter != null && !triggerTransmitter.isValid() && !isRemote() && splitAfterRemoval(triggerTransmitter)) {
+            return;
+        }
         if (transmittersSize() == 1 && triggerTransmitter != null && !triggerTransmitter.isValid()) {
             //We're destroying the last transmitter in the network
             //Note: We check it isn't valid to make sure we are destroying it and not just changing redstone sensitivity
@@ -129,6 +135,67 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected void onLastTransmitterRemoved(@NotNull TRANSMITTER triggerTransmitter) {
     }
 
+    /**
+     * Removes any invalid transmitters while keeping this network, and only orphans the transmitters that are no longer connected to the rest of the network. This avoids
+     * having to rebuild the entire network from scratch when a single transmitter is broken.
+     *
+     * @return {@code false} if the network should instead be fully invalidated.
+     */
+    private boolean splitAfterRemoval(@NotNull TRANSMITTER triggerTransmitter) {
+        List<TRANSMITTER> removed = new ArrayList<>();
+        for (TRANSMITTER transmitter : getTransmitters()) {
+            if (!transmitter.isValid()) {
+                removed.add(transmitter);
+            }
+        }
+        if (removed.size() >= transmittersSize()) {
+            //Nothing would be left, let the network get invalidated normally
+            return false;
+        }
+        removeInvalid(triggerTransmitter);
+        LongList neighbors = new LongArrayList();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (TRANSMITTER transmitter : removed) {
+            acceptorCache.removeTransmitter(transmitter);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (positionedTransmitters.containsKey(mutable.setWithOffset(transmitter.getBlockPos(), side))) {
+                    neighbors.add(mutable.asLong());
+                }
+            }
+        }
+        if (neighbors.size() > 1) {
+            BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+            NetworkSplitFinder splitFinder = new NetworkSplitFinder(neighbors, (pos, side, neighbor) -> {
+                TRANSMITTER neighborTransmitter = positionedTransmitters.get(neighborPos.set(neighbor));
+                if (neighborTransmitter == null) {
+                    return false;
+                }
+                TRANSMITTER transmitter = positionedTransmitters.get(mutable.set(pos));
+                return transmitter != null && transmitter.isValidTransmitterBasic(neighborTransmitter.getTransmitterTile(), side);
+            });
+            for (LongList component : splitFinder.findSeparated()) {
+                for (LongIterator iterator = component.iterator(); iterator.hasNext(); ) {
+                    TRANSMITTER transmitter = positionedTransmitters.remove(mutable.set(iterator.nextLong()));
+                    if (transmitter != null) {
+                        //Take the share before removing the transmitter from the network so that its contents go with it
+                        transmitter.takeShare();
+                        acceptorCache.removeTransmitter(transmitter);
+                        transmitter.setTransmitterNetwork(null);
+                        TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+                    }
+                }
+            }
+        }
+        onTransmittersRemoved();
+        return true;
+    }
+
+    /**
+     * Called after transmitters have been removed from this network without invalidating it.
+     */
+    protected void onTransmittersRemoved() {
+    }
+
     protected void removeInvalid(@Nullable TRANSMITTER triggerTransmitter) {
         //Remove invalid transmitters first for share calculations
         getTransmitters().removeIf(transmitter -> !transmitter.isValid());
@@ -0,0 +1,104 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import mekanism.api.SerializationConstants;
+import mekanism.common.content.network.transmitter.BufferedTransmitter;
+import mekanism.common.lib.MekanismSavedData;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Per dimension store of the share of the network's buffer that each buffered transmitter saves. When the contents of a network change, the store gets marked dirty
+ * and the current shares are written into it when the level saves, rather than marking every chunk the network is in as dirty.
+ *
+ * @implNote Transmitters still write their share when their chunk gets saved, and also update their entry in this store when they do, so the share in this store is
+ * always at least as recent as the one saved in the chunk. When a transmitter gets loaded the share from this store is used instead of the one from the chunk, and
+ * transmitters from worlds that were saved before this store existed fall back to their share from the chunk.
+ */
+public class NetworkBufferStore extends MekanismSavedData {
+
+    private static final String DATA_HANDLER_NAME = "network_buffers";
+
+    /**
+     * Note: This should only be called from the server side
+     */
+    public static NetworkBufferStore get(ServerLevel level) {
+        return createSavedData(level.getDataStorage(), new Factory<>(() -> new NetworkBufferStore(level), (tag, provider) -> {
+            NetworkBufferStore store = new NetworkBufferStore(level);
+            store.load(tag, provider);
+            return store;
+        }), DATA_HANDLER_NAME);
+    }
+
+    private final Long2ObjectMap<CompoundTag> shares = new Long2ObjectOpenHashMap<>();
+    private final ServerLevel level;
+
+    private NetworkBufferStore(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Writes the share the given transmitter currently saves with into this store.
+     *
+     * @apiNote Make sure the save shares of the transmitter's network are valid before calling this.
+     */
+    public void storeShare(BufferedTransmitter<?, ?, ?, ?> transmitter) {
+        CompoundTag share = new CompoundTag();
+        transmitter.writeShare(level.registryAccess(), share);
+        CompoundTag previous = shares.put(transmitter.getBlockPos().asLong(), share);
+        if (!share.equals(previous)) {
+            setDirty();
+        }
+    }
+
+    /**
+     * If this store has a share saved for the given transmitter, sets it as the transmitter's buffer.
+     */
+    public void restoreShare(BufferedTransmitter<?, ?, ?, ?> transmitter) {
+        CompoundTag share = shares.get(transmitter.getBlockPos().asLong());
+        if (share != null) {
+            transmitter.readShare(level.registryAccess(), share);
+        }
+    }
+
+    /**
+     * Removes the share saved for the transmitter at the given position, should be called when the transmitter is removed rather than unloaded.
+     */
+    public void removeShare(BlockPos pos) {
+        if (shares.remove(pos.asLong()) != null) {
+            setDirty();
+        }
+    }
+
+    @Override
+    public void load(@NotNull CompoundTag nbt, @NotNull HolderLookup.Provider provider) {
+        ListTag list = nbt.getList(SerializationConstants.NETWORK, Tag.TAG_COMPOUND);
+        for (int i = 0, size = list.size(); i < size; i++) {
+            CompoundTag entry = list.getCompound(i);
+            shares.put(entry.getLong(SerializationConstants.POSITION), entry.getCompound(SerializationConstants.DATA));
+        }
+    }
+
+    @NotNull
+    @Override
+    public CompoundTag save(@NotNull CompoundTag nbt, @NotNull HolderLookup.Provider provider) {
+        //Write the current shares of any networks in this level whose contents changed since we last saved
+        TransmitterNetworkRegistry.getInstance().storeUnsavedNetworks(level, this);
+        ListTag list = new ListTag();
+        for (Long2ObjectMap.Entry<CompoundTag> entry : Long2ObjectMaps.fastIterable(shares)) {
+            CompoundTag entryTag = new CompoundTag();
+            entryTag.putLong(SerializationConstants.POSITION, entry.getLongKey());
+            entryTag.put(SerializationConstants.DATA, entry.getValue());
+            list.add(entryTag);
+        }
+        nbt.put(SerializationConstants.NETWORK, list);
+        return nbt;
+    }
+}
@@ -0,0 +1,175 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+/**
+ * Checks whether the transmitters that neighbored some removed transmitters are still connected to each other, by running one breadth first search from each of them
+ * in lockstep. Searches that reach each other get merged, so if everything is still connected we can stop as soon as all the searches have met rather than having to
+ * walk the entire network. Otherwise, once at most one search is still going, every search that ran out of transmitters to visit is a component that got separated.
+ */
+class NetworkSplitFinder {
+
+    private static final int UNVISITED = -1;
+
+    private final ConnectionChecker connectionChecker;
+    private final Long2IntOpenHashMap owners = new Long2IntOpenHashMap();
+    private final List<Search> searches = new ArrayList<>();
+
+    /**
+     * @param starts            Positions of the transmitters to start searching from.
+     * @param connectionChecker Checks which transmitters that are still in the network connect to each other.
+     */
+    NetworkSplitFinder(LongList starts, ConnectionChecker connectionChecker) {
+        this.connectionChecker = connectionChecker;
+        owners.defaultReturnValue(UNVISITED);
+        for (LongIterator iterator = starts.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            if (owners.get(pos) == UNVISITED) {
+                owners.put(pos, searches.size());
+                searches.add(new Search(searches.size(), pos));
+            }
+        }
+    }
+
+    /**
+     * {@return the positions of the transmitters in each component that is no longer connected to the largest remaining component, or an empty list if all the starting
+     * transmitters are still connected}
+     */
+    List<LongList> findSeparated() {
+        while (true) {
+            int roots = 0;
+            int active = 0;
+            for (Search search : searches) {
+                if (search.parent == search.index) {
+                    roots++;
+                    if (!search.queue.isEmpty()) {
+                        active++;
+                    }
+                }
+            }
+            if (roots <= 1) {
+                return Collections.emptyList();
+            } else if (active <= 1) {
+                return collectSeparated();
+            }
+            for (Search search : searches) {
+                //Note: We check the search is still a root each time as it may have been merged into another search during this round
+                if (search.parent == search.index && !search.queue.isEmpty()) {
+                    step(search);
+                }
+            }
+        }
+    }
+
+    private void step(Search search) {
+        long pos = search.queue.dequeueLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long neighborPos = BlockPos.offset(pos, side);
+            if (connectionChecker.isConnected(pos, side, neighborPos)) {
+                int owner = owners.get(neighborPos);
+                if (owner == UNVISITED) {
+                    owners.put(neighborPos, search.index);
+                    search.visit(neighborPos);
+                } else {
+                    Search other = find(owner);
+                    if (other != search) {
+                        search = union(search, other);
+                    }
+                }
+            }
+        }
+    }
+
+    private Search find(int index) {
+        Search search = searches.get(index);
+        while (search.parent != search.index) {
+            Search parent = searches.get(search.parent);
+            //Compress the path as we go
+            search.parent = parent.parent;
+            search = parent;
+        }
+        return search;
+    }
+
+    /**
+     * Merges the two searches into the one that has visited more transmitters, and returns the merged search.
+     */
+    private Search union(Search a, Search b) {
+        if (a.visited.size() < b.visited.size()) {
+            Search temp = a;
+            a = b;
+            b = temp;
+        }
+        b.parent = a.index;
+        a.visited.addAll(b.visited);
+        while (!b.queue.isEmpty()) {
+            a.queue.enqueue(b.queue.dequeueLong());
+        }
+        b.visited = null;
+        return a;
+    }
+
+    private List<LongList> collectSeparated() {
+        //Keep whichever component is still being searched as it is the largest, or if they all finished keep the one with the most transmitters
+        Search kept = null;
+        for (Search search : searches) {
+            if (search.parent == search.index) {
+                if (!search.queue.isEmpty()) {
+                    kept = search;
+                    break;
+                } else if (kept == null || search.visited.size() > kept.visited.size()) {
+                    kept = search;
+                }
+            }
+        }
+        List<LongList> separated = new ArrayList<>();
+        for (Search search : searches) {
+            if (search.parent == search.index && search != kept) {
+                separated.add(search.visited);
+            }
+        }
+        return separated;
+    }
+
+    @FunctionalInterface
+    interface ConnectionChecker {
+
+        /**
+         * {@return true if the transmitter at the given position connects to a transmitter that is still in the network at the neighboring position}
+         *
+         * @param pos         Position of a transmitter that is still in the network.
+         * @param side        Side of the transmitter the neighbor is on.
+         * @param neighborPos Position of the neighbor.
+         */
+        boolean isConnected(long pos, Direction side, long neighborPos);
+    }
+
+    private static class Search {
+
+        private final int index;
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private LongList visited = new LongArrayList();
+        private int parent;
+
+        private Search(int index, long start) {
+            this.index = index;
+            this.parent = index;
+            visit(start);
+        }
+
+        private void visit(long pos) {
+            visited.add(pos);
+            queue.enqueue(pos);
+        }
+    }
+}
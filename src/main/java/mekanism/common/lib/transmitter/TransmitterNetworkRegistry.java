@@ -8,8 +8,10 @@ import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
@@ -26,6 +28,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -45,6 +48,7 @@ public class TransmitterNetworkRegistry {
     private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final Set<DynamicBufferedNetwork<?, ?, ?, ?>> unsavedNetworks = new ReferenceOpenHashSet<>();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -79,6 +83,7 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().unsavedNetworks.clear();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -123,6 +128,29 @@ public class TransmitterNetworkRegistry {
         networksToChange.remove(network);
     }
 
+    void addUnsavedNetwork(DynamicBufferedNetwork<?, ?, ?, ?> network) {
+        unsavedNetworks.add(network);
+    }
+
+    void removeUnsavedNetwork(DynamicBufferedNetwork<?, ?, ?, ?> network) {
+        unsavedNetworks.remove(network);
+    }
+
+    /**
+     * Writes the current shares of any networks in the given level whose contents changed since they were last saved to the store.
+     */
+    void storeUnsavedNetworks(ServerLevel level, NetworkBufferStore store) {
+        if (!unsavedNetworks.isEmpty()) {
+            for (Iterator<DynamicBufferedNetwork<?, ?, ?, ?>> iterator = unsavedNetworks.iterator(); iterator.hasNext(); ) {
+                DynamicBufferedNetwork<?, ?, ?, ?> network = iterator.next();
+                if (network.world == level) {
+                    iterator.remove();
+                    network.storeShares(store);
+                }
+            }
+        }
+    }
+
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
         handleChangedChunks();
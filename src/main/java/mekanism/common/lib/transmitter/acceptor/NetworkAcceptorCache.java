@@ -1,48 +1,123 @@
 package mekanism.common.lib.transmitter.acceptor;
 
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumMap;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
 public class NetworkAcceptorCache<ACCEPTOR> {
 
-    private final Map<BlockPos, Map<Direction, ACCEPTOR>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+    private static final int NO_SLOT = -1;
+
+    /**
+     * Maps the packed position of each acceptor to the index of the first of the {@link #SIDES} slots it has in {@link #acceptors}.
+     */
+    private final Long2IntOpenHashMap positionSlots = new Long2IntOpenHashMap();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Acceptors stored contiguously with {@link #SIDES} slots per position, indexed by the {@link Direction#ordinal() ordinal} of the side the acceptor is connected on.
+     * Positions are kept packed at the start of the array, so only the first {@link #getSlotCount()} slots need to be checked.
+     */
+    private Object[] acceptors = new Object[0];
+    private long[] positions = new long[0];
+    private byte[] sideCounts = new byte[0];
+    private int positionCount;
+    private int acceptorCount;
+    private int version;
+
+    public NetworkAcceptorCache() {
+        positionSlots.defaultReturnValue(NO_SLOT);
+    }
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
         ACCEPTOR acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : null;
-        BlockPos acceptorPos = transmitter.getBlockPos().relative(side);
+        long acceptorPos = transmitter.getBlockPos().relative(side).asLong();
+        version++;
         if (acceptor == null) {
-            Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
-            if (cached != null) {
-                cached.remove(side.getOpposite());
-                if (cached.isEmpty()) {
-                    cachedAcceptors.remove(acceptorPos);
+            remove(acceptorPos, side.getOpposite());
+        } else {
+            put(acceptorPos, side.getOpposite(), acceptor);
+        }
+    }
+
+    private void put(long pos, Direction side, Object acceptor) {
+        int baseSlot = positionSlots.get(pos);
+        if (baseSlot == NO_SLOT) {
+            if (positionCount == positions.length) {
+                int newLength = Math.max(4, positions.length << 1);
+                positions = Arrays.copyOf(positions, newLength);
+                sideCounts = Arrays.copyOf(sideCounts, newLength);
+                acceptors = Arrays.copyOf(acceptors, newLength * SIDES);
+            }
+            baseSlot = positionCount * SIDES;
+            positions[positionCount++] = pos;
+            positionSlots.put(pos, baseSlot);
+        }
+        int slot = baseSlot + side.ordinal();
+        if (acceptors[slot] == null) {
+            sideCounts[baseSlot / SIDES]++;
+            acceptorCount++;
+        }
+        acceptors[slot] = acceptor;
+    }
+
+    private void remove(long pos, Direction side) {
+        int baseSlot = positionSlots.get(pos);
+        if (baseSlot == NO_SLOT) {
+            return;
+        }
+        int slot = baseSlot + side.ordinal();
+        if (acceptors[slot] != null) {
+            acceptors[slot] = null;
+            acceptorCount--;
+            int index = baseSlot / SIDES;
+            if (--sideCounts[index] == 0) {
+                //No acceptors left at this position, move the last position into its slots so that all in use slots stay at the start
+                positionSlots.remove(pos);
+                int last = --positionCount;
+                int lastBaseSlot = last * SIDES;
+                if (index != last) {
+                    long lastPos = positions[last];
+                    positions[index] = lastPos;
+                    sideCounts[index] = sideCounts[last];
+                    System.arraycopy(acceptors, lastBaseSlot, acceptors, baseSlot, SIDES);
+                    positionSlots.put(lastPos, baseSlot);
                 }
+                Arrays.fill(acceptors, lastBaseSlot, lastBaseSlot + SIDES, null);
+                sideCounts[last] = 0;
             }
-        } else {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
         }
     }
 
+    /**
+     * Removes any acceptors the given transmitter was connected to, and any pending changes for it.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        version++;
+        BlockPos pos = transmitter.getBlockPos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            remove(BlockPos.offset(pos.asLong(), side), side.getOpposite());
+        }
+        changedAcceptors.remove(transmitter);
+    }
+
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
-        for (Entry<BlockPos, Map<Direction, ACCEPTOR>> entry : other.cachedAcceptors.entrySet()) {
-            BlockPos pos = entry.getKey();
-            if (cachedAcceptors.containsKey(pos)) {
-                cachedAcceptors.get(pos).putAll(entry.getValue());
-            } else {
-                cachedAcceptors.put(pos, entry.getValue());
+        version++;
+        for (int slot = 0, slots = other.getSlotCount(); slot < slots; slot++) {
+            Object acceptor = other.acceptors[slot];
+            if (acceptor != null) {
+                put(other.positions[slot / SIDES], EnumUtils.DIRECTIONS[slot % SIDES], acceptor);
             }
         }
         for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : other.changedAcceptors.entrySet()) {
@@ -76,40 +151,87 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void deregister() {
-        cachedAcceptors.clear();
+        version++;
+        positionSlots.clear();
+        Arrays.fill(acceptors, 0, getSlotCount(), null);
+        Arrays.fill(sideCounts, 0, positionCount, (byte) 0);
+        positionCount = 0;
+        acceptorCount = 0;
         changedAcceptors.clear();
     }
 
     /**
-     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     * {@return a counter that changes whenever the cached acceptors may have changed} This allows networks to keep data derived from the acceptors until it gets
+     * updated.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * {@return the number of slots that may contain an acceptor} Each acceptor position takes up one slot per direction, so iterating from zero to this value and
+     * skipping empty slots visits every acceptor.
+     */
+    public int getSlotCount() {
+        return positionCount * SIDES;
+    }
+
+    /**
+     * @param slot Slot index, less than {@link #getSlotCount()}.
+     *
+     * @return The acceptor in the given slot, or {@code null} if there is no acceptor connected on that side of the slot's position.
+     *
+     * @apiNote Listeners should not be added to these acceptors here as they may not correspond to an actual handler and may not get invalidated.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public ACCEPTOR getAcceptor(int slot) {
+        return (ACCEPTOR) acceptors[slot];
+    }
+
+    /**
+     * {@return the packed position of the acceptor in the given slot}
+     *
+     * @param slot Slot index, less than {@link #getSlotCount()}.
      */
-    public Set<Map.Entry<BlockPos, Map<Direction, ACCEPTOR>>> getAcceptorEntrySet() {
-        return cachedAcceptors.entrySet();
+    public long getAcceptorPosition(int slot) {
+        return positions[slot / SIDES];
     }
 
     /**
-     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     * {@return the side of the acceptor in the given slot that is connected to the network}
+     *
+     * @param slot Slot index, less than {@link #getSlotCount()}.
      */
-    public Collection<Map<Direction, ACCEPTOR>> getAcceptorValues() {
-        return cachedAcceptors.values();
+    public Direction getAcceptorSide(int slot) {
+        return EnumUtils.DIRECTIONS[slot % SIDES];
     }
 
     public int getAcceptorCount() {
-        //Count multiple connections to the same position as multiple acceptors
-        return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
+        //Note: Multiple connections to the same position count as multiple acceptors
+        return acceptorCount;
     }
 
     public boolean hasAcceptor(BlockPos acceptorPos) {
-        return cachedAcceptors.containsKey(acceptorPos);
+        return positionSlots.containsKey(acceptorPos.asLong());
     }
 
     @Nullable
     public ACCEPTOR getCachedAcceptor(BlockPos acceptorPos, Direction side) {
-        return cachedAcceptors.getOrDefault(acceptorPos, Collections.emptyMap()).get(side);
+        int baseSlot = positionSlots.get(acceptorPos.asLong());
+        return baseSlot == NO_SLOT ? null : getAcceptor(baseSlot + side.ordinal());
     }
 
     public Set<Direction> getAcceptorDirections(BlockPos pos) {
-        //TODO: Do this better?
-        return cachedAcceptors.get(pos).keySet();
+        Set<Direction> directions = EnumSet.noneOf(Direction.class);
+        int baseSlot = positionSlots.get(pos.asLong());
+        if (baseSlot != NO_SLOT) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (acceptors[baseSlot + side.ordinal()] != null) {
+                    directions.add(side);
+                }
+            }
+        }
+        return directions;
     }
-}
\ No newline at end of file
+}
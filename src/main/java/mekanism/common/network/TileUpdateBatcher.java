@@ -0,0 +1,105 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.to_client.PacketBatchUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Collects the tiles that requested to send an update packet, so that each tile only sends at most one update per tick (or per configured interval), and updates for
+ * tiles that are tracked by the same chunk get sent together in a single packet.
+ */
+public class TileUpdateBatcher {
+
+    private TileUpdateBatcher() {
+    }
+
+    /**
+     * Tiles waiting to send an update, mapped to the block entity that determines which players are tracking the update, by level.
+     */
+    private static final Map<ServerLevel, Object2ObjectMap<TileEntityUpdateable, BlockEntity>> pendingUpdates = new Object2ObjectOpenHashMap<>();
+    private static final Long2ObjectMap<List<PacketUpdateTile>> updatesByChunk = new Long2ObjectOpenHashMap<>();
+
+    public static void queue(ServerLevel level, TileEntityUpdateable tile, BlockEntity tracking) {
+        Object2ObjectMap<TileEntityUpdateable, BlockEntity> pending = pendingUpdates.get(level);
+        if (pending == null) {
+            pending = new Object2ObjectLinkedOpenHashMap<>();
+            pendingUpdates.put(level, pending);
+        }
+        pending.put(tile, tracking);
+    }
+
+    /**
+     * Sends any pending updates for tiles that haven't sent one within the configured interval.
+     *
+     * @param tickCount Current server tick count. This is used instead of the level's game time as the game time doesn't advance while the tick rate is frozen.
+     */
+    public static void flush(int tickCount) {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        int interval = MekanismConfig.general.tileUpdateInterval.get();
+        for (Iterator<Map.Entry<ServerLevel, Object2ObjectMap<TileEntityUpdateable, BlockEntity>>> levelIterator = pendingUpdates.entrySet().iterator(); levelIterator.hasNext(); ) {
+            Map.Entry<ServerLevel, Object2ObjectMap<TileEntityUpdateable, BlockEntity>> levelEntry = levelIterator.next();
+            ServerLevel level = levelEntry.getKey();
+            for (Iterator<Object2ObjectMap.Entry<TileEntityUpdateable, BlockEntity>> iterator = Object2ObjectMaps.fastIterator(levelEntry.getValue()); iterator.hasNext(); ) {
+                Object2ObjectMap.Entry<TileEntityUpdateable, BlockEntity> entry = iterator.next();
+                TileEntityUpdateable tile = entry.getKey();
+                if (tile.isRemoved()) {
+                    iterator.remove();
+                } else if (tile.tryClaimUpdatePacket(tickCount, interval)) {
+                    iterator.remove();
+                    long chunkKey = ChunkPos.asLong(entry.getValue().getBlockPos());
+                    List<PacketUpdateTile> updates = updatesByChunk.get(chunkKey);
+                    if (updates == null) {
+                        updates = new ArrayList<>(1);
+                        updatesByChunk.put(chunkKey, updates);
+                    }
+                    updates.add(new PacketUpdateTile(tile));
+                }//else it already sent an update recently, wait until the interval is up before sending the next one
+            }
+            if (levelEntry.getValue().isEmpty()) {
+                levelIterator.remove();
+            }
+            if (!updatesByChunk.isEmpty()) {
+                for (Long2ObjectMap.Entry<List<PacketUpdateTile>> entry : Long2ObjectMaps.fastIterable(updatesByChunk)) {
+                    List<PacketUpdateTile> updates = entry.getValue();
+                    ChunkPos chunkPos = new ChunkPos(entry.getLongKey());
+                    if (updates.size() == 1) {
+                        PacketDistributor.sendToPlayersTrackingChunk(level, chunkPos, updates.getFirst());
+                    } else {
+                        PacketDistributor.sendToPlayersTrackingChunk(level, chunkPos, new PacketBatchUpdateTile(updates));
+                    }
+                }
+                updatesByChunk.clear();
+            }
+        }
+    }
+
+    /**
+     * Drops any pending updates for the given level so that we don't keep a reference to it after it unloads.
+     */
+    public static void unload(ServerLevel level) {
+        pendingUpdates.remove(level);
+    }
+
+    public static void reset() {
+        pendingUpdates.clear();
+        updatesByChunk.clear();
+    }
+}
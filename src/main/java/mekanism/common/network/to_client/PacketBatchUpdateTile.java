@@ -0,0 +1,34 @@
+package mekanism.common.network.to_client;
+
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import mekanism.common.Mekanism;
+import mekanism.common.network.IMekanismPacket;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Update packets for multiple tiles that are all tracked by the same chunk.
+ */
+public record PacketBatchUpdateTile(List<PacketUpdateTile> updates) implements IMekanismPacket {
+
+    public static final CustomPacketPayload.Type<PacketBatchUpdateTile> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("batch_update_tile"));
+    public static final StreamCodec<ByteBuf, PacketBatchUpdateTile> STREAM_CODEC = PacketUpdateTile.STREAM_CODEC.apply(ByteBufCodecs.list())
+          .map(PacketBatchUpdateTile::new, PacketBatchUpdateTile::updates);
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketBatchUpdateTile> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        for (PacketUpdateTile update : updates) {
+            update.handle(context);
+        }
+    }
+}
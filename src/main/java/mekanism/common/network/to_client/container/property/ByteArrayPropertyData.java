@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class ByteArrayPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, ByteArrayPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.BYTE_ARRAY, data -> data.value,
           ByteArrayPropertyData::new
     );
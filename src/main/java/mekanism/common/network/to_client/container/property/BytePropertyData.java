@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class BytePropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, BytePropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.BYTE, data -> data.value,
           BytePropertyData::new
     );
@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class DoublePropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, DoublePropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.DOUBLE, data -> data.value,
           DoublePropertyData::new
     );
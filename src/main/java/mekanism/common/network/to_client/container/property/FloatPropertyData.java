@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class FloatPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, FloatPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.FLOAT, data -> data.value,
           FloatPropertyData::new
     );
@@ -4,14 +4,13 @@ import io.netty.buffer.ByteBuf;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import org.jetbrains.annotations.NotNull;
 
 public class FloatingLongPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, FloatingLongPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           FloatingLong.STREAM_CODEC, data -> data.value,
           FloatingLongPropertyData::new
     );
@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class LongPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, LongPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.VAR_LONG, data -> data.value,
           LongPropertyData::new
     );
@@ -1,13 +1,19 @@
 package mekanism.common.network.to_client.container.property;
 
+import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 
 public abstract class PropertyData {
 
     public static final StreamCodec<RegistryFriendlyByteBuf, PropertyData> GENERIC_STREAM_CODEC = PropertyType.STREAM_CODEC.<RegistryFriendlyByteBuf>cast()
           .dispatch(PropertyData::getType, PropertyType::streamCodec);
+    /**
+     * Property indices are never negative and most containers track fewer than 128 properties, so we write them as var ints which only take a single byte in most cases.
+     */
+    public static final StreamCodec<ByteBuf, Short> PROPERTY_STREAM_CODEC = ByteBufCodecs.VAR_INT.map(Integer::shortValue, Short::intValue);
 
     private final PropertyType type;
     private final short property;
@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class ShortPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, ShortPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.SHORT, data -> data.value,
           ShortPropertyData::new
     );
@@ -4,14 +4,13 @@ import mekanism.api.chemical.slurry.SlurryStack;
 import mekanism.common.network.to_client.container.property.PropertyData;
 import mekanism.common.network.to_client.container.property.PropertyType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import org.jetbrains.annotations.NotNull;
 
 public class SlurryStackPropertyData extends ChemicalStackPropertyData<SlurryStack> {
 
     public static final StreamCodec<RegistryFriendlyByteBuf, SlurryStackPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           SlurryStack.OPTIONAL_STREAM_CODEC, data -> data.value,
           SlurryStackPropertyData::new
     );
@@ -1,23 +1,42 @@
 package mekanism.common.network.to_client.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.IMekanismPacket;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
-public class PacketUpdateItemViewer extends PacketQIOItemViewerGuiSync {
+/**
+ * Changes to the items in a QIO frequency since the last time they were synced to a viewing player. Types are referred to by the id they were given for the player's
+ * viewing session, so the full stack and UUID of a type only have to be sent the first time the player is told about it.
+ *
+ * @param newTypes     Types that the player hasn't been sent before this packet, keyed by the session id they are being given.
+ * @param countChanges Amount the count of each type changed by, keyed by session id. New types are included with their count as the change.
+ */
+public record PacketUpdateItemViewer(long countCapacity, int typeCapacity, Int2ObjectMap<UUIDAwareHashedItem> newTypes, Int2LongMap countChanges)
+      implements IMekanismPacket {
 
-    public static final CustomPacketPayload.Type<PacketUpdateItemViewer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_qio"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = streamCodec(PacketUpdateItemViewer::new);
+    //Zigzag encode the changes so that small removals are as cheap to send as small additions
+    private static final StreamCodec<ByteBuf, Long> COUNT_CHANGE_CODEC = ByteBufCodecs.VAR_LONG.map(change -> (change >>> 1) ^ -(change & 1), change -> (change << 1) ^ (change >> 63));
 
-    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
-    }
+    public static final CustomPacketPayload.Type<PacketUpdateItemViewer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_qio"));
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = StreamCodec.composite(
+          ByteBufCodecs.VAR_LONG, PacketUpdateItemViewer::countCapacity,
+          ByteBufCodecs.VAR_INT, PacketUpdateItemViewer::typeCapacity,
+          ByteBufCodecs.map(Int2ObjectOpenHashMap::new, ByteBufCodecs.VAR_INT, PacketQIOItemViewerGuiSync.ITEM_TYPE_CODEC), PacketUpdateItemViewer::newTypes,
+          ByteBufCodecs.map(Int2LongOpenHashMap::new, ByteBufCodecs.VAR_INT, COUNT_CHANGE_CODEC), PacketUpdateItemViewer::countChanges,
+          PacketUpdateItemViewer::new
+    );
 
     @NotNull
     @Override
@@ -28,7 +47,7 @@ public class PacketUpdateItemViewer extends PacketQIOItemViewerGuiSync {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleUpdate(newTypes, countChanges, countCapacity, typeCapacity);
         }
     }
-}
\ No newline at end of file
+}
@@ -49,6 +49,19 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
         shouldUnpause = true;
     }
 
+    /**
+     * @return {@code true} if there is nothing for this monitor to process until its contents change, either because there is no matching recipe or because the cached
+     * recipe is paused due to errors.
+     */
+    public boolean isIdle() {
+        if (shouldUnpause) {
+            return false;
+        } else if (cachedRecipe == null) {
+            return hasNoRecipe;
+        }
+        return cachedRecipe.isPausedForErrors();
+    }
+
     /**
      * Helper that wraps {@link #updateAndProcess()} inside of a brief check to calculate how much energy actually got used.
      */
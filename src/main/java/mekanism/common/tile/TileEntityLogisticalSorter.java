@@ -56,14 +56,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IT
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private final SortableFilterManager<SorterFilter<?>> filterManager = new SortableFilterManager<SorterFilter<?>>((Class) SorterFilter.class, this::markForSave);
-    private final Finder strictFinder = stack -> {
-        for (SorterFilter<?> filter : filterManager.getEnabledFilters()) {
-            if (!filter.allowDefault && filter.getFinder().test(stack)) {
-                return false;
-            }
-        }
-        return true;
-    };
+    private final Finder strictFinder = stack -> !filterManager.getEnabledFinder(filter -> filter.allowDefault ? null : filter.getFinder()).test(stack);
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> homeInventory;
@@ -0,0 +1,60 @@
+package mekanism.common.tile.base;
+
+/**
+ * Server wide counts of how many machines ran their full tick and how many were asleep, to be able to see how much work sleeping machines are saving.
+ */
+public class MachineSleepStats {
+
+    private MachineSleepStats() {
+    }
+
+    private static int awake;
+    private static int sleeping;
+    private static int lastAwake;
+    private static int lastSleeping;
+    private static long skippedTicks;
+
+    static void tickedAwake() {
+        awake++;
+    }
+
+    static void tickedAsleep() {
+        sleeping++;
+        skippedTicks++;
+    }
+
+    /**
+     * Called at the end of each server tick to store the counts for the tick that just finished.
+     */
+    public static void endTick() {
+        lastAwake = awake;
+        lastSleeping = sleeping;
+        awake = 0;
+        sleeping = 0;
+    }
+
+    public static void reset() {
+        awake = 0;
+        sleeping = 0;
+        lastAwake = 0;
+        lastSleeping = 0;
+        skippedTicks = 0;
+    }
+
+    public static SleepStats getStats() {
+        return new SleepStats(lastAwake, lastSleeping, skippedTicks);
+    }
+
+    /**
+     * @param awake        Number of machines that ran their full tick during the last server tick.
+     * @param sleeping     Number of machines that were asleep during the last server tick.
+     * @param skippedTicks Number of machine ticks that have been skipped since the server started.
+     */
+    public record SleepStats(int awake, int sleeping, long skippedTicks) {
+
+        public double sleepingRate() {
+            int total = awake + sleeping;
+            return total == 0 ? 0 : sleeping / (double) total;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.api.security.SecurityMode;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.FilterAware;
 import mekanism.common.attachments.containers.ContainerType;
@@ -178,6 +179,16 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
      * A timer used to send packets to clients.
      */
     public int ticker;
+    /**
+     * Number of ticks to wait after nothing changed before putting a tile that {@link #canSleep() can sleep} to sleep.
+     */
+    private static final int TICKS_BEFORE_SLEEP = SharedConstants.TICKS_PER_SECOND;
+    /**
+     * How often a sleeping tile still runs its full tick, to catch changes we don't get notified about, such as a neighbor now having room for our outputs.
+     */
+    private static final int SLEEP_CHECK_INTERVAL = SharedConstants.TICKS_PER_SECOND;
+    private boolean sleeping;
+    private int idleTicks;
     private final List<ITileComponent> components = new ArrayList<>();
 
     protected final IBlockProvider blockProvider;
@@ -636,6 +647,15 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        if (tile.sleeping) {
+            //Note: We always run the full tick when tags and recipes were reloaded so that we can check if we have a recipe again
+            if (++tile.idleTicks < SLEEP_CHECK_INTERVAL && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                MachineSleepStats.tickedAsleep();
+                return;
+            }
+            tile.idleTicks = 0;
+        }
+        MachineSleepStats.tickedAwake();
         tile.frequencyComponent.tickServer(level, pos);
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -656,7 +676,6 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (tile.updateRadiationScale()) {
             sendUpdatePacket = true;
         }
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
         if (tile.canHandleHeat()) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -681,6 +700,38 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
         }
+        tile.updateSleepState();
+    }
+
+    private void updateSleepState() {
+        if (!MekanismConfig.general.machineSleep.get() || updateDelay > 0 || !canSleep() || hasChunkloader || canHandleHeat() ||
+            supportsUpgrades() && upgradeComponent.isCheckingUpgrades()) {
+            wakeUp();
+        } else if (sleeping) {
+            //Nothing changed during our periodic check, stay asleep
+            idleTicks = 0;
+        } else if (++idleTicks >= TICKS_BEFORE_SLEEP) {
+            sleeping = true;
+            idleTicks = 0;
+        }
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping and restarts the countdown until it can sleep again.
+     */
+    public final void wakeUp() {
+        sleeping = false;
+        idleTicks = 0;
+    }
+
+    /**
+     * @return {@code true} if this tile has nothing to do until something about it changes, so can stop running its full tick until then.
+     *
+     * @implNote Sleeping tiles are woken up when they get marked as changed, their redstone state changes, or one of their neighbors changes. They still run their full
+     * tick once every second while sleeping in case something else changed.
+     */
+    protected boolean canSleep() {
+        return false;
     }
 
     public void open(Player player) {
@@ -997,6 +1048,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            wakeUp();
             updatePower();
         }
     }
@@ -1114,6 +1166,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             if (redstone != power) {
                 redstone = power;
                 onPowerChange();
+                wakeUp();
             }
         }
     }
@@ -1220,6 +1273,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         setChanged();
     }
 
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Something about us changed, so we may have work to do again
+        wakeUp();
+    }
+
     public void applyInventorySlots(BlockEntity.DataComponentInput input, List<IInventorySlot> slots, AttachedItems attachedItems) {
         List<ItemStack> stacks = attachedItems.containers();
         int size = stacks.size();
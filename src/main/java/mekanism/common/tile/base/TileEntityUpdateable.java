@@ -5,8 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.common.Mekanism;
-import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -19,6 +18,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -35,6 +35,7 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private GlobalPos cachedCoord;
     private boolean cacheCoord;
     private long lastSave;
+    private int nextUpdatePacketTick;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -175,10 +176,27 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            //Note: The packet gets sent at the end of the tick, so that we only send one update even if multiple are requested
+            TileUpdateBatcher.queue((ServerLevel) getLevel(), this, tracking);
         }
     }
 
+    /**
+     * Checks if it has been long enough since this tile last sent an update packet for it to send another one, and if so marks it as having sent one.
+     *
+     * @param tickCount Current server tick count.
+     * @param interval  Minimum number of ticks between update packets.
+     *
+     * @return {@code true} if the tile can send an update packet.
+     */
+    public boolean tryClaimUpdatePacket(int tickCount, int interval) {
+        if (tickCount < nextUpdatePacketTick) {
+            return false;
+        }
+        nextUpdatePacketTick = tickCount + interval;
+        return true;
+    }
+
     protected void updateModelData() {
         requestModelDataUpdate();
         WorldUtils.updateBlock(getLevel(), getBlockPos(), getBlockState());
@@ -56,6 +56,7 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
+import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
@@ -65,7 +66,6 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
-import net.neoforged.neoforge.common.util.Lazy;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
@@ -73,6 +73,12 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileComponentEjector implements ITileComponent, ISpecificContainerTracker {
 
+    /**
+     * Maximum number of ticks to wait before trying to eject from a container again after it failed to eject anything.
+     */
+    private static final int MAX_BACKOFF = SharedConstants.TICKS_PER_SECOND;
+    private static final int MAX_ITEM_BACKOFF = 2 * SharedConstants.TICKS_PER_SECOND;
+
     private final TileEntityMekanism tile;
     private final Map<TransmissionType, ConfigInfo> configInfo = new EnumMap<>(TransmissionType.class);
 
@@ -92,6 +98,8 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    private int itemBackoff = MekanismUtils.TICKS_PER_HALF_SECOND;
+    private final Map<TransmissionType, EjectPlan> ejectPlans = new EnumMap<>(TransmissionType.class);
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -143,19 +151,27 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
 
     public void tickServer() {
-        Lazy<Direction> facing = Lazy.of(tile::getDirection);
+        Direction facing = null;
         for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
             TransmissionType type = entry.getKey();
             ConfigInfo info = entry.getValue();
-            if (isEjecting(info, type)) {
+            if (type != TransmissionType.HEAT && isEjecting(info, type)) {
+                if (type == TransmissionType.ITEM && tickDelay > 0) {
+                    tickDelay--;
+                    continue;
+                }
+                if (facing == null) {
+                    facing = tile.getDirection();
+                }
+                EjectPlan plan = ejectPlans.get(type);
+                if (plan == null || !plan.isValid(facing, info)) {
+                    plan = buildPlan(type, facing, info);
+                    ejectPlans.put(type, plan);
+                }
                 if (type == TransmissionType.ITEM) {
-                    if (tickDelay == 0) {
-                        outputItems(facing.get(), info);
-                    } else {
-                        tickDelay--;
-                    }
-                } else if (type != TransmissionType.HEAT) {
-                    eject(type, facing.get(), info);
+                    outputItems(plan);
+                } else {
+                    eject(type, plan);
                 }
             }
         }
@@ -172,41 +188,50 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
 
     /**
-     * @apiNote Ensure that it can eject before calling this method.
+     * Figures out which containers eject to which sides, and gets the capability caches for those sides. As the caches invalidate themselves when the neighboring
+     * capabilities change, this only has to be done again when the config or the direction we are facing changes.
      */
-    private void eject(TransmissionType type, Direction facing, ConfigInfo info) {
-        //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;
+    private EjectPlan buildPlan(TransmissionType type, Direction facing, ConfigInfo info) {
+        ServerLevel level = (ServerLevel) tile.getLevel();
+        BlockPos pos = tile.getBlockPos();
+        List<EjectTarget> targets = new ArrayList<>();
+        if (type == TransmissionType.ITEM) {
+            Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = null;
+            for (DataType dataType : info.getSupportedDataTypes()) {
+                if (dataType.canOutput() && info.getSlotInfo(dataType) instanceof InventorySlotInfo inventorySlotInfo) {
+                    Set<Direction> outputSides = getSidesForData(info, facing, dataType);
+                    if (!outputSides.isEmpty()) {
+                        if (typeCapabilityCaches == null) {
+                            typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
+                        }
+                        targets.add(new EjectTarget(inventorySlotInfo, List.copyOf(outputSides), getCapabilityCaches(level, pos, typeCapabilityCaches, outputSides, Capabilities.ITEM)));
+                    }
+                }
+            }
+            return new EjectPlan(facing, info.getVersion(), targets);
+        }
+        //Used to keep track of tanks to what sides they output to, we use an identity hashmap to allow for cheaper compare checks
+        Map<Object, Set<Direction>> outputData = new IdentityHashMap<>();
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (dataType.canOutput()) {
                 ISlotInfo slotInfo = info.getSlotInfo(dataType);
                 if (slotInfo != null) {
                     Set<Direction> outputSides = getSidesForData(info, facing, dataType);
                     if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData, we use an identity hashmap to allow for cheaper compare checks
-                            outputData = new IdentityHashMap<>();
-                        }
                         switch (slotInfo) {
                             case ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo when type.isChemical() -> {
                                 for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case FluidSlotInfo fluidSlotInfo when type == TransmissionType.FLUID -> {
                                 for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty()) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case EnergySlotInfo energySlotInfo when type == TransmissionType.ENERGY -> {
                                 for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                    if (!container.isEmpty()) {
-                                        addData(outputData, container, outputSides);
-                                    }
+                                    addData(outputData, container, outputSides);
                                 }
                             }
                             default -> {
@@ -216,38 +241,75 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            ServerLevel level = (ServerLevel) tile.getLevel();
-            BlockPos pos = tile.getBlockPos();
+        if (!outputData.isEmpty()) {
             Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
             for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+                Object container = entry.getKey();
                 Set<Direction> sides = entry.getValue();
+                List<?> caches;
                 if (type.isChemical()) {
-                    emit(level, pos, typeCapabilityCaches, sides, (IChemicalTank<?, ?>) entry.getKey());
+                    caches = getChemicalCaches(level, pos, typeCapabilityCaches, sides, (IChemicalTank<?, ?>) container);
                 } else if (type == TransmissionType.FLUID) {
-                    List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                    FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
+                    caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
+                } else {
+                    List<BlockEnergyCapabilityCache> energyCaches = new ArrayList<>(sides.size());
                     for (Direction side : sides) {
                         BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
                         if (cache == null) {
                             cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
                             energyCapabilityCache.put(side, cache);
                         }
-                        caches.add(cache);
+                        energyCaches.add(cache);
                     }
-                    CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
+                    caches = energyCaches;
                 }
+                targets.add(new EjectTarget(container, List.copyOf(sides), caches));
             }
         }
+        return new EjectPlan(facing, info.getVersion(), targets);
     }
 
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> void emit(ServerLevel level,
-          BlockPos pos, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IChemicalTank<CHEMICAL, STACK> tank) {
-        List<BlockCapabilityCache<HANDLER, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, ChemicalUtil.getCapabilityForChemical(tank));
-        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+    @SuppressWarnings("unchecked")
+    private void eject(TransmissionType type, EjectPlan plan) {
+        for (EjectTarget target : plan.targets) {
+            if (target.shouldSkip()) {
+                continue;
+            }
+            boolean ejected;
+            if (type.isChemical()) {
+                IChemicalTank<?, ?> tank = (IChemicalTank<?, ?>) target.container;
+                if (tank.isEmpty() || canTankEject != null && !canTankEject.test(tank)) {
+                    continue;
+                }
+                ejected = emit(target.caches, tank) > 0;
+            } else if (type == TransmissionType.FLUID) {
+                IExtendedFluidTank tank = (IExtendedFluidTank) target.container;
+                if (tank.isEmpty()) {
+                    continue;
+                }
+                ejected = FluidUtils.emit((List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>>) target.caches, tank, fluidEjectRate.getAsInt()) > 0;
+            } else {
+                IEnergyContainer container = (IEnergyContainer) target.container;
+                if (container.isEmpty()) {
+                    continue;
+                }
+                ejected = !CableUtils.emit((List<BlockEnergyCapabilityCache>) target.caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get())
+                      .isZero();
+            }
+            target.updateBackoff(ejected);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> long emit(List<?> caches,
+          IChemicalTank<CHEMICAL, STACK> tank) {
+        return ChemicalUtil.emit((List<BlockCapabilityCache<HANDLER, @Nullable Direction>>) caches, tank, chemicalEjectRate.getAsLong());
+    }
+
+    private static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>>
+    List<BlockCapabilityCache<HANDLER, @Nullable Direction>> getChemicalCaches(ServerLevel level, BlockPos pos, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches,
+          Set<Direction> sides, IChemicalTank<CHEMICAL, STACK> tank) {
+        return getCapabilityCaches(level, pos, typeCapabilityCaches, sides, ChemicalUtil.getCapabilityForChemical(tank));
     }
 
     @SuppressWarnings("unchecked")
@@ -265,67 +327,55 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return caches;
     }
 
-    /**
-     * @apiNote Ensure that it can eject before calling this method.
-     */
-    private void outputItems(Direction facing, ConfigInfo info) {
-        ServerLevel level = (ServerLevel) tile.getLevel();
-        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = null;
-        for (DataType dataType : info.getSupportedDataTypes()) {
-            if (!dataType.canOutput()) {
-                continue;
-            }
-            ISlotInfo slotInfo = info.getSlotInfo(dataType);
-            if (slotInfo instanceof InventorySlotInfo inventorySlotInfo) {
-                //Validate the slot info is of the correct type
-                Set<Direction> outputs = getSidesForData(info, facing, dataType);
-                if (!outputs.isEmpty()) {
-                    EjectTransitRequest ejectMap = null;
-                    if (typeCapabilityCaches == null) {
-                        typeCapabilityCaches = capabilityCaches.computeIfAbsent(TransmissionType.ITEM, t -> new EnumMap<>(Direction.class));
+    @SuppressWarnings("unchecked")
+    private void outputItems(EjectPlan plan) {
+        boolean hadItems = false;
+        boolean ejected = false;
+        for (EjectTarget target : plan.targets) {
+            InventorySlotInfo inventorySlotInfo = (InventorySlotInfo) target.container;
+            EjectTransitRequest ejectMap = null;
+            for (int i = 0, sides = target.sides.size(); i < sides; i++) {
+                IItemHandler capability = ((BlockCapabilityCache<IItemHandler, @Nullable Direction>) target.caches.get(i)).getCapability();
+                if (capability == null) {
+                    //Skip sides where there isn't a target
+                    continue;
+                }
+                IItemHandler handler = getHandler(target.sides.get(i));
+                if (ejectMap == null) {
+                    //NOTE: The below logic and the entire concept of EjectTransitRequest relies on the implementation detail that
+                    // per DataType all exposed slots are the same regardless of the actual side. If this ever changes or there are
+                    // cases discovered where this is not the case we will instead need to calculate the eject map for each output side
+                    // instead of only having to do it once per DataType
+                    ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(handler), inventorySlotInfo.getSlots());
+                    //No items to eject, exit
+                    if (ejectMap.isEmpty()) {
+                        break;
                     }
-                    for (Direction side : outputs) {
-                        BlockCapabilityCache<IItemHandler, @Nullable Direction> cache = (BlockCapabilityCache<IItemHandler, @Nullable Direction>) typeCapabilityCaches.get(side);
-                        if (cache == null) {
-                            cache = Capabilities.ITEM.createCache(level, tile.getBlockPos().relative(side), side.getOpposite());
-                            typeCapabilityCaches.put(side, cache);
-                        }
-                        IItemHandler capability = cache.getCapability();
-                        if (capability == null) {
-                            //Skip sides where there isn't a target
-                            continue;
-                        }
-                        IItemHandler handler = getHandler(side);
-                        if (ejectMap == null) {
-                            //NOTE: The below logic and the entire concept of EjectTransitRequest relies on the implementation detail that
-                            // per DataType all exposed slots are the same regardless of the actual side. If this ever changes or there are
-                            // cases discovered where this is not the case we will instead need to calculate the eject map for each output side
-                            // instead of only having to do it once per DataType
-                            ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(handler), inventorySlotInfo.getSlots());
-                            //No items to eject, exit
-                            if (ejectMap.isEmpty()) {
-                                break;
-                            }
-                        } else {
-                            //Update the handler so that if/when the response uses it, it makes sure it is using the correct side's restrictions
-                            ejectMap.handler = handler;
-                        }
-                        //If the spot is not loaded just skip trying to eject to it
-                        TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
-                        if (!response.isEmpty()) {
-                            // use the items returned by the TransitResponse; will be visible next loop
-                            response.useAll();
-                            if (ejectMap.isEmpty()) {
-                                //If we are out of items to eject, break
-                                break;
-                            }
-                        }
+                    hadItems = true;
+                } else {
+                    //Update the handler so that if/when the response uses it, it makes sure it is using the correct side's restrictions
+                    ejectMap.handler = handler;
+                }
+                //If the spot is not loaded just skip trying to eject to it
+                TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
+                if (!response.isEmpty()) {
+                    // use the items returned by the TransitResponse; will be visible next loop
+                    response.useAll();
+                    ejected = true;
+                    if (ejectMap.isEmpty()) {
+                        //If we are out of items to eject, break
+                        break;
                     }
                 }
             }
         }
-
-        tickDelay = MekanismUtils.TICKS_PER_HALF_SECOND;
+        if (hadItems && !ejected) {
+            //None of the targets could accept anything we have, wait longer before trying again
+            itemBackoff = Math.min(2 * itemBackoff, MAX_ITEM_BACKOFF);
+        } else {
+            itemBackoff = MekanismUtils.TICKS_PER_HALF_SECOND;
+        }
+        tickDelay = itemBackoff;
     }
 
     private Set<Direction> getSidesForData(ConfigInfo info, @NotNull Direction facing, @NotNull DataType dataType) {
@@ -539,6 +589,46 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
     //End computer related methods
 
+    private record EjectPlan(Direction facing, int configVersion, List<EjectTarget> targets) {
+
+        private boolean isValid(Direction facing, ConfigInfo info) {
+            return this.facing == facing && configVersion == info.getVersion();
+        }
+    }
+
+    private static class EjectTarget {
+
+        private final Object container;
+        private final List<Direction> sides;
+        private final List<?> caches;
+        private int backoff;
+        private int skipTicks;
+
+        private EjectTarget(Object container, List<Direction> sides, List<?> caches) {
+            this.container = container;
+            this.sides = sides;
+            this.caches = caches;
+        }
+
+        private boolean shouldSkip() {
+            if (skipTicks > 0) {
+                skipTicks--;
+                return true;
+            }
+            return false;
+        }
+
+        private void updateBackoff(boolean ejected) {
+            if (ejected) {
+                backoff = 0;
+            } else {
+                //Nothing could be ejected, so double how long we wait before trying again
+                backoff = backoff == 0 ? 1 : Math.min(2 * backoff, MAX_BACKOFF);
+                skipTicks = backoff;
+            }
+        }
+    }
+
     private static class EjectTransitRequest extends HandlerTransitRequest {
 
         public IItemHandler handler;
@@ -103,6 +103,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         return upgradeOutputSlot;
     }
 
+    /**
+     * @return {@code true} if there may be upgrades in the input slot that are waiting to be installed.
+     */
+    public boolean isCheckingUpgrades() {
+        return canCheckUpgrades;
+    }
+
     public double getScaledUpgradeProgress() {
         return upgradeTicks / (double) UPGRADE_TICKS_REQUIRED;
     }
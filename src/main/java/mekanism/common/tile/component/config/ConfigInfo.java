@@ -36,6 +36,10 @@ public class ConfigInfo implements IPersistentConfigInfo {
     private Set<RelativeSide> disabledSides;
     @Nullable
     private Set<DataType> supportedDataTypes;
+    /**
+     * Incremented whenever the side config or slot info changes, so that things caching data based on them know when they need to recalculate it.
+     */
+    private int version;
 
     public ConfigInfo(@NotNull Supplier<Direction> facingSupplier) {
         this.facingSupplier = facingSupplier;
@@ -66,6 +70,10 @@ public class ConfigInfo implements IPersistentConfigInfo {
         this.ejecting = ejecting;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     public void addDisabledSides(@NotNull RelativeSide... sides) {
         if (disabledSides == null) {
             disabledSides = EnumSet.noneOf(RelativeSide.class);
@@ -74,6 +82,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
             disabledSides.add(side);
             sideConfig.put(side, DataType.NONE);
         }
+        version++;
     }
 
     public boolean isSideEnabled(@NotNull RelativeSide side) {
@@ -94,7 +103,11 @@ public class ConfigInfo implements IPersistentConfigInfo {
     }
 
     public boolean setDataType(@NotNull DataType dataType, @NotNull RelativeSide side) {
-        return isSideEnabled(side) && sideConfig.put(side, dataType) != dataType;
+        if (isSideEnabled(side) && sideConfig.put(side, dataType) != dataType) {
+            version++;
+            return true;
+        }
+        return false;
     }
 
     @NotNull
@@ -122,6 +135,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
 
     public void addSlotInfo(@NotNull DataType dataType, @NotNull ISlotInfo info) {
         slotInfo.put(dataType, info);
+        version++;
         if (supportedDataTypes != null) {
             supportedDataTypes.add(dataType);
         }
@@ -160,6 +174,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
         if (isSideEnabled(relativeSide)) {
             DataType newType = current.getNext(this::supports);
             sideConfig.put(relativeSide, newType);
+            version++;
             return newType;
         }
         return current;
@@ -174,6 +189,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
         if (isSideEnabled(relativeSide)) {
             DataType newType = current.getPrevious(this::supports);
             sideConfig.put(relativeSide, newType);
+            version++;
             return newType;
         }
         return current;
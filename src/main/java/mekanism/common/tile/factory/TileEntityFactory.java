@@ -215,6 +215,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         return type;
     }
 
+    @Override
+    protected boolean canSleep() {
+        if (sortingNeeded && isSorting()) {
+            return false;
+        }
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            if (!cacheLookupMonitor.isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected boolean onUpdateServer() {
         boolean sendUpdatePacket = super.onUpdateServer();
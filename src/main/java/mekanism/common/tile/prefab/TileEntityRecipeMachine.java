@@ -109,6 +109,11 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe<?>>
         return recipeCacheUnpauseSaveOnlyListener;
     }
 
+    @Override
+    protected boolean canSleep() {
+        return recipeCacheLookupMonitor.isIdle();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
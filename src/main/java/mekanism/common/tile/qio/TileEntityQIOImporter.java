@@ -1,14 +1,19 @@
 package mekanism.common.tile.qio;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.common.Mekanism;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
@@ -37,7 +42,7 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
 
     private static final int MAX_DELAY = MekanismUtils.TICKS_PER_HALF_SECOND;
 
-    private final Predicate<ItemStack> FILTER_ENABLED = stack -> getFilterManager().anyEnabledMatch(stack, (filter, s) -> filter.getFinder().test(s));
+    private final Predicate<ItemStack> FILTER_ENABLED = stack -> getFilterManager().getEnabledFinder(QIOFilter::getFinder).test(stack);
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> backInventory;
@@ -95,8 +100,10 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
         }
         Set<HashedItem> typesAdded = new HashSet<>();
         int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
+        IntList importSlots = new IntArrayList();
+        List<ItemStack> toImport = new ArrayList<>();
 
-        for (int i = slots - 1; i >= 0; i--) {
+        for (int i = slots - 1; i >= 0 && countAdded < maxCount; i--) {
             ItemStack stack = inventory.extractItem(i, maxCount - countAdded, true);
             if (stack.isEmpty()) {
                 continue;
@@ -110,14 +117,29 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             if (!canFilter.test(stack)) {
                 continue;
             }
-            ItemStack used = TransporterManager.getToUse(stack, freq.addItem(stack));
-            ItemStack ret = inventory.extractItem(i, used.getCount(), false);
-            if (!InventoryUtils.areItemsStackable(used, ret) || used.getCount() != ret.getCount()) {
-                Mekanism.logger.error("QIO insertion error: item handler at {} in {} returned {} during simulated extraction, but returned {} during execution. This is wrong!",
-                      worldPosition.relative(getOppositeDirection()), level.dimension().location(), stack, ret);
-            }
+            importSlots.add(i);
+            toImport.add(stack);
             typesAdded.add(type);
-            countAdded += used.getCount();
+            countAdded += stack.getCount();
+        }
+        if (toImport.isEmpty()) {
+            return;
+        }
+        //Insert everything we found at once so that stacks of the same type only have to be placed into drives once
+        int[] inserted = freq.massInsert(toImport);
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] > 0) {
+                ItemStack stack = toImport.get(i);
+                ItemStack ret = inventory.extractItem(importSlots.getInt(i), inserted[i], false);
+                if (!ret.isEmpty() && (!InventoryUtils.areItemsStackable(stack, ret) || ret.getCount() > inserted[i])) {
+                    Mekanism.logger.error("QIO insertion error: item handler at {} in {} returned {} during simulated extraction, but returned {} during execution. This is wrong!",
+                          worldPosition.relative(getOppositeDirection()), level.dimension().location(), stack, ret);
+                } else if (ret.getCount() < inserted[i]) {
+                    //As we simulate all the slots before extracting from any of them, the inventory may have less than it said, for example if multiple
+                    // slots are backed by the same storage. Take back whatever we weren't able to actually extract
+                    freq.massExtract(stack, inserted[i] - ret.getCount(), Action.EXECUTE);
+                }
+            }
         }
     }
 
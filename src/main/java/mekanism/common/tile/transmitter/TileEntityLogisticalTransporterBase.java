@@ -41,12 +41,6 @@ public abstract class TileEntityLogisticalTransporterBase extends TileEntityTran
         transmitter.getTransmitter().onUpdateClient();
     }
 
-    @Override
-    public void onUpdateServer() {
-        super.onUpdateServer();
-        getTransmitter().onUpdateServer();
-    }
-
     @Override
     public void blockRemoved() {
         super.blockRemoved();
@@ -64,6 +58,10 @@ public abstract class TileEntityLogisticalTransporterBase extends TileEntityTran
     @Override
     public void sideChanged(@NotNull Direction side, @NotNull ConnectionType old, @NotNull ConnectionType type) {
         super.sideChanged(side, old, type);
+        if (type == ConnectionType.PULL) {
+            //Make sure the network knows to start pulling from this side
+            getTransmitter().wake();
+        }
         //Note: We don't expose a cap for when the connection type is none or push and this method only gets called if type != old,
         // so we can check to ensure that if we are one of the two that the other isn't the other one we don't have a cap for
         if (type == ConnectionType.NONE && old != ConnectionType.PUSH || type == ConnectionType.PUSH && old != ConnectionType.NONE) {
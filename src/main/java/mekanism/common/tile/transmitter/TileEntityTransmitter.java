@@ -28,6 +28,7 @@ import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.lib.transmitter.NetworkBufferStore;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.tile.base.CapabilityTileEntity;
 import mekanism.common.upgrade.transmitter.TransmitterUpgradeData;
@@ -64,6 +65,7 @@ public abstract class TileEntityTransmitter extends CapabilityTileEntity impleme
     private boolean forceUpdate = true;
     private boolean loaded = false;
     private boolean markJoined = false;
+    private boolean chunkUnloaded = false;
 
     public TileEntityTransmitter(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(((IHasTileEntity<? extends TileEntityTransmitter>) blockProvider.getBlock()).getTileType(), pos, state);
@@ -135,6 +137,14 @@ public abstract class TileEntityTransmitter extends CapabilityTileEntity impleme
     public void saveAdditional(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
         super.saveAdditional(nbtTags, provider);
         getTransmitter().write(provider, nbtTags);
+        //Keep the network buffer store in sync with the share we just wrote
+        storeShare();
+    }
+
+    private void storeShare() {
+        if (level instanceof ServerLevel serverLevel && getTransmitter() instanceof BufferedTransmitter<?, ?, ?, ?> bufferedTransmitter) {
+            NetworkBufferStore.get(serverLevel).storeShare(bufferedTransmitter);
+        }
     }
 
     public void onNeighborBlockChange(Direction side) {
@@ -156,6 +166,9 @@ public abstract class TileEntityTransmitter extends CapabilityTileEntity impleme
         if (!isRemote()) {
             //Only take the transmitter's share if it was unloaded and not if we are being removed
             getTransmitter().takeShare();
+            //Store the share we took, as our chunk only gets saved if it was marked as dirty for other reasons
+            storeShare();
+            chunkUnloaded = true;
         }
         super.onChunkUnloaded();
     }
@@ -163,6 +176,10 @@ public abstract class TileEntityTransmitter extends CapabilityTileEntity impleme
     @Override
     public void setRemoved() {
         super.setRemoved();
+        if (!chunkUnloaded && level instanceof ServerLevel serverLevel && getTransmitter() instanceof BufferedTransmitter) {
+            //If we are being removed rather than unloaded, remove our share from the store so that it doesn't get used by a transmitter placed here later
+            NetworkBufferStore.get(serverLevel).removeShare(getBlockPos());
+        }
         onWorldSeparate(false);
         getTransmitter().remove();
     }
@@ -178,6 +195,10 @@ public abstract class TileEntityTransmitter extends CapabilityTileEntity impleme
         if (!isRemote() && !wasPresent) {
             //If we weren't already present, and we are on the server, track this transmitter
             TransmitterNetworkRegistry.trackTransmitter(getTransmitter());
+            if (level instanceof ServerLevel serverLevel && getTransmitter() instanceof BufferedTransmitter<?, ?, ?, ?> bufferedTransmitter) {
+                //Use the share from the network buffer store if there is one, as it may be more recent than the one that was saved in our chunk
+                NetworkBufferStore.get(serverLevel).restoreShare(bufferedTransmitter);
+            }
         }
         if (!loaded) {
             //Only load it if it wasn't already loaded
@@ -211,6 +232,7 @@ public abstract class TileEntityTransmitter extends CapabilityTileEntity impleme
         } else {
             //Chunk went from loaded to "unloaded", need to take the share first like normally happens when it unloads
             getTransmitter().validateAndTakeShare();
+            storeShare();
             onWorldSeparate(true);
         }
     }
@@ -18,10 +18,17 @@ public final class CableUtils {
         emit(targets, energyContainer, energyContainer.getMaxEnergy());
     }
 
-    public static void emit(Collection<BlockEnergyCapabilityCache> targets, IEnergyContainer energyContainer, FloatingLong maxOutput) {
+    /**
+     * @return the amount of energy emitted
+     */
+    public static FloatingLong emit(Collection<BlockEnergyCapabilityCache> targets, IEnergyContainer energyContainer, FloatingLong maxOutput) {
         if (!energyContainer.isEmpty() && !maxOutput.isZero()) {
-            energyContainer.extract(emit(targets, energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL)), Action.EXECUTE, AutomationType.INTERNAL);
+            FloatingLong sent = emit(targets, energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL));
+            //Note: As we simulated extracting the energy before sending it, we can consume what was sent instead of having to copy what gets extracted
+            energyContainer.consume(sent, AutomationType.INTERNAL);
+            return sent;
         }
+        return FloatingLong.ZERO;
     }
 
     /**
@@ -284,11 +284,15 @@ public class ChemicalUtil {
         emit(targets, tank, tank.getCapacity());
     }
 
-    public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> void emit(Collection<BlockCapabilityCache<HANDLER, @Nullable Direction>> targets,
+    /**
+     * @return the amount of chemical emitted
+     */
+    public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> long emit(Collection<BlockCapabilityCache<HANDLER, @Nullable Direction>> targets,
           IChemicalTank<CHEMICAL, STACK> tank, long maxOutput) {
         if (!tank.isEmpty() && maxOutput > 0) {
-            tank.extract(emit(targets, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL)), Action.EXECUTE, AutomationType.INTERNAL);
+            return tank.extract(emit(targets, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL)), Action.EXECUTE, AutomationType.INTERNAL).getAmount();
         }
+        return 0;
     }
 
     /**
@@ -2,8 +2,10 @@ package mekanism.common.util;
 
 import mekanism.api.math.FloatingLong;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.lib.distribution.IntTarget;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 
@@ -56,6 +58,9 @@ public class EmitUtils {
      * @param toSend           Any extra information such as gas stack or fluid stack.
      *
      * @return The amount that actually got sent.
+     *
+     * @apiNote Nothing in Mekanism itself distributes through boxed targets anymore, as {@link IntTarget} is used instead. This is kept as the reference implementation
+     * that the primitive targets are tested against, and for any addons that still have their own boxed targets.
      */
     public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(TARGET availableTargets, int amountToSplit, EXTRA toSend) {
         return sendToAcceptors(availableTargets, new IntegerSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
@@ -70,11 +75,42 @@ public class EmitUtils {
      * @param toSend           Any extra information such as gas stack or fluid stack.
      *
      * @return The amount that actually got sent.
+     *
+     * @apiNote Nothing in Mekanism itself distributes through boxed targets anymore, as {@link LongTarget} is used instead. This is kept as the reference implementation
+     * that the primitive targets are tested against, and for any addons that still have their own boxed targets.
      */
     public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend) {
         return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
     }
 
+    /**
+     * Primitive variant of {@link #sendToAcceptors(Target, int, Object)} that does not box any amounts.
+     *
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <EXTRA> int sendToAcceptors(IntTarget<?, EXTRA> availableTargets, int amountToSplit, EXTRA toSend) {
+        return availableTargets.send(amountToSplit, toSend);
+    }
+
+    /**
+     * Primitive variant of {@link #sendToAcceptors(Target, long, Object)} that does not box any amounts.
+     *
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <EXTRA> long sendToAcceptors(LongTarget<?, EXTRA> availableTargets, long amountToSplit, EXTRA toSend) {
+        return availableTargets.send(amountToSplit, toSend);
+    }
+
     /**
      * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
      * @param amountToSplit    The amount of energy to attempt to send
@@ -6,7 +6,7 @@ import com.google.gson.JsonObject;
 import com.mojang.authlib.GameProfile;
 import it.unimi.dsi.fastutil.longs.Long2DoubleArrayMap;
 import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +34,7 @@ import mekanism.common.attachments.FrequencyAware;
 import mekanism.common.block.attribute.Attribute;
 import mekanism.common.block.attribute.AttributeFactoryType;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.gear.mekatool.VeinMiningSearch;
 import mekanism.common.item.ItemConfigurator;
 import mekanism.common.item.ItemConfigurator.ConfiguratorMode;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
@@ -769,21 +770,44 @@ public final class MekanismUtils {
         return fluidsIn;
     }
 
-    public static void veinMineArea(IEnergyContainer energyContainer, FloatingLong energyRequired, FloatingLong baseBlastEnergy, FloatingLong baseVeinEnergy,
-          Level world, BlockPos pos, ServerPlayer player, ItemStack stack, Item usedTool, Object2IntMap<BlockPos> found, BlastEnergyFunction blastEnergy,
-          VeinEnergyFunction veinEnergy) {
+    /**
+     * Breaks up to the given number of the blocks found by the search, continuing from where the last call left off.
+     *
+     * @param swingTick {@code true} if this is being called on the same tick the player broke the target block.
+     *
+     * @return {@code true} if there are still found blocks left to break.
+     */
+    public static boolean veinMineArea(IEnergyContainer energyContainer, FloatingLong energyRequired, FloatingLong baseBlastEnergy, FloatingLong baseVeinEnergy,
+          Level world, BlockPos pos, ServerPlayer player, ItemStack stack, Item usedTool, VeinMiningSearch search, int maxBlocks, boolean swingTick,
+          BlastEnergyFunction blastEnergy, VeinEnergyFunction veinEnergy) {
         FloatingLong energyUsed = FloatingLong.ZERO;
         FloatingLong energyAvailable = energyContainer.getEnergy();
-        //Subtract from our available energy the amount that we will require to break the target block
-        energyAvailable = energyAvailable.subtract(energyRequired);
+        if (swingTick) {
+            //Subtract from our available energy the amount that we will require to break the target block
+            // Note: We only do this on the tick the target block was broken, as on later ticks breaking it is already accounted for
+            energyAvailable = energyAvailable.subtract(energyRequired);
+        }
         Stat<Item> itemStat = Stats.ITEM_USED.get(usedTool);
-        for (Object2IntMap.Entry<BlockPos> foundEntry : found.object2IntEntrySet()) {
-            BlockPos foundPos = foundEntry.getKey();
-            if (pos.equals(foundPos)) {
+        long targetPos = pos.asLong();
+        for (int processed = 0; processed < maxBlocks; processed++) {
+            Long2IntMap.Entry foundEntry = search.nextToBreak();
+            if (foundEntry == null) {
+                energyContainer.extract(energyUsed, Action.EXECUTE, AutomationType.MANUAL);
+                return false;
+            }
+            long packedPos = foundEntry.getLongKey();
+            if (packedPos == targetPos) {
+                continue;
+            }
+            BlockPos foundPos = BlockPos.of(packedPos);
+            //Skip any positions that were unloaded since they were found rather than loading the chunk again
+            Optional<BlockState> foundState = WorldUtils.getBlockState(world, foundPos);
+            if (foundState.isEmpty()) {
                 continue;
             }
-            BlockState targetState = world.getBlockState(foundPos);
-            if (targetState.isAir()) {
+            BlockState targetState = foundState.get();
+            //As the blocks may be broken a few ticks after they were found, make sure they haven't been changed since
+            if (targetState.isAir() || !search.isFoundBlock(packedPos, targetState)) {
                 continue;
             }
             float hardness = targetState.getDestroySpeed(world, foundPos);
@@ -823,6 +847,7 @@ public final class MekanismUtils {
             }
         }
         energyContainer.extract(energyUsed, Action.EXECUTE, AutomationType.MANUAL);
+        return true;
     }
 
     public enum ResourceType {
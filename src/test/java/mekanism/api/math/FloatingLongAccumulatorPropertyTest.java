@@ -0,0 +1,82 @@
+package mekanism.api.math;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+
+@Label("Test that FloatingLongAccumulator produces the same results as FloatingLong")
+class FloatingLongAccumulatorPropertyTest {
+
+    private static final int TRIES = 10_000;
+    private static final String ALL_FL_NAME = "allFloatingLongs";
+
+    @Provide
+    Arbitrary<FloatingLong> allFloatingLongs() {
+        return Combinators.combine(
+              Arbitraries.longs(),
+              Arbitraries.shorts().between((short) 0, (short) 9_999)
+        ).as(FloatingLong::createConst);
+    }
+
+    @Label("Test addition")
+    @Property(tries = TRIES)
+    void testAdd(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll(ALL_FL_NAME) FloatingLong b) {
+        Assertions.assertEquals(a.add(b), new FloatingLongAccumulator(a).add(b).toFloatingLong());
+    }
+
+    @Label("Test addition of longs")
+    @Property(tries = TRIES)
+    void testAddLong(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll long b) {
+        Assertions.assertEquals(a.add(b), new FloatingLongAccumulator(a).add(b).toFloatingLong());
+    }
+
+    @Label("Test subtraction")
+    @Property(tries = TRIES)
+    void testSubtract(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll(ALL_FL_NAME) FloatingLong b) {
+        Assertions.assertEquals(a.subtract(b), new FloatingLongAccumulator(a).subtract(b).toFloatingLong());
+    }
+
+    @Label("Test subtraction of longs")
+    @Property(tries = TRIES)
+    void testSubtractLong(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll long b) {
+        Assertions.assertEquals(a.subtract(b), new FloatingLongAccumulator(a).subtract(b).toFloatingLong());
+    }
+
+    @Label("Test multiplication by longs")
+    @Property(tries = TRIES)
+    void testMultiplyLong(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll long b) {
+        Assertions.assertEquals(a.multiply(b), new FloatingLongAccumulator(a).multiply(b).toFloatingLong());
+    }
+
+    @Label("Test subtracting an accumulator from a FloatingLong")
+    @Property(tries = TRIES)
+    void testMinusEqualAccumulator(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll(ALL_FL_NAME) FloatingLong b) {
+        Assertions.assertEquals(a.subtract(b), a.copy().minusEqual(new FloatingLongAccumulator(b)));
+    }
+
+    @Label("Test chained operations")
+    @Property(tries = TRIES)
+    void testChained(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll(ALL_FL_NAME) FloatingLong b, @ForAll(ALL_FL_NAME) FloatingLong c) {
+        Assertions.assertEquals(a.subtract(b).add(c), new FloatingLongAccumulator(a).subtract(b).add(new FloatingLongAccumulator(c)).toFloatingLong());
+    }
+
+    @Label("Test clamping")
+    @Property(tries = TRIES)
+    void testClamp(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll(ALL_FL_NAME) FloatingLong b) {
+        Assertions.assertEquals(a.min(b), new FloatingLongAccumulator(a).clampMax(b).toFloatingLong());
+        Assertions.assertEquals(a.max(b), new FloatingLongAccumulator(a).clampMin(b).toFloatingLong());
+    }
+
+    @Label("Test comparison")
+    @Property(tries = TRIES)
+    void testCompare(@ForAll(ALL_FL_NAME) FloatingLong a, @ForAll(ALL_FL_NAME) FloatingLong b) {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(a);
+        Assertions.assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(accumulator.compareTo(b)));
+        Assertions.assertEquals(a.equals(b), accumulator.valueEquals(b));
+    }
+}
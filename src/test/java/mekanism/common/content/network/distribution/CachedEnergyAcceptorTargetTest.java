@@ -0,0 +1,141 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.util.EmitUtils;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test sending energy to the acceptors of a cached energy target")
+class CachedEnergyAcceptorTargetTest {
+
+    private static FloatingLong send(CachedEnergyAcceptorTarget target, FloatingLong toSend) {
+        target.prepare(toSend, 0);
+        FloatingLong sent = EmitUtils.sendToAcceptors(target, toSend.copy());
+        target.clear();
+        return sent;
+    }
+
+    private static CachedEnergyAcceptorTarget createTarget(TestEnergyHandler... handlers) {
+        CachedEnergyAcceptorTarget target = new CachedEnergyAcceptorTarget();
+        for (TestEnergyHandler handler : handlers) {
+            target.addAcceptor(handler);
+        }
+        return target;
+    }
+
+    @Test
+    @DisplayName("Test energy is split evenly with smaller acceptors being filled first")
+    void testSplit() {
+        TestEnergyHandler small = new TestEnergyHandler(50);
+        TestEnergyHandler medium = new TestEnergyHandler(100);
+        TestEnergyHandler large = new TestEnergyHandler(1_000);
+        Assertions.assertEquals(FloatingLong.createConst(600), send(createTarget(small, medium, large), FloatingLong.createConst(600)));
+        Assertions.assertEquals(50, small.stored);
+        Assertions.assertEquals(100, medium.stored);
+        Assertions.assertEquals(450, large.stored);
+    }
+
+    @Test
+    @DisplayName("Test sending when a handler accepts less than it reported")
+    void testShortfall() {
+        //Two acceptors for the same multiblock both report they can accept its full capacity, but only the first one gets to fill it
+        TestEnergyHandler shared = new TestEnergyHandler(100);
+        TestEnergyHandler other = new TestEnergyHandler(1_000);
+        FloatingLong toSend = FloatingLong.createConst(300);
+        Assertions.assertEquals(toSend, send(createTarget(shared, shared, other), toSend));
+        Assertions.assertEquals(100, shared.stored);
+        Assertions.assertEquals(200, other.stored);
+    }
+
+    @Test
+    @DisplayName("Test a full acceptor is checked again on the second tick after it first didn't need energy")
+    void testShortBackoff() {
+        TestEnergyHandler handler = new TestEnergyHandler(100);
+        handler.stored = 100;
+        CachedEnergyAcceptorTarget target = createTarget(handler);
+        FloatingLong toSend = FloatingLong.createConst(50);
+        target.prepare(toSend, 10);
+        Assertions.assertEquals(0, target.getHandlerCount());
+        //It has room again, but is still backing off for a single tick
+        handler.stored = 0;
+        target.prepare(toSend, 10);
+        Assertions.assertEquals(0, target.getHandlerCount());
+        target.prepare(toSend, 10);
+        Assertions.assertEquals(1, target.getHandlerCount());
+    }
+
+    @Test
+    @DisplayName("Test the wait before checking an acceptor that stays full again doubles up to the max")
+    void testBackoffDoubles() {
+        TestEnergyHandler handler = new TestEnergyHandler(100);
+        handler.stored = 100;
+        CachedEnergyAcceptorTarget target = createTarget(handler);
+        FloatingLong toSend = FloatingLong.createConst(50);
+        for (int tick = 0; tick < 20; tick++) {
+            target.prepare(toSend, 4);
+        }
+        //Checked on ticks 0, 2, 5, 10 and 15, waiting 1, 2, 4, 4 and 4 ticks after each
+        Assertions.assertEquals(5, handler.simulations);
+    }
+
+    private static class TestEnergyHandler implements IStrictEnergyHandler {
+
+        private final long capacity;
+        private long stored;
+        private int simulations;
+
+        private TestEnergyHandler(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public int getEnergyContainerCount() {
+            return 1;
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong getEnergy(int container) {
+            return FloatingLong.create(stored);
+        }
+
+        @Override
+        public void setEnergy(int container, @NotNull FloatingLong energy) {
+            stored = energy.longValue();
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong getMaxEnergy(int container) {
+            return FloatingLong.create(capacity);
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong getNeededEnergy(int container) {
+            return FloatingLong.create(capacity - stored);
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong insertEnergy(int container, @NotNull FloatingLong amount, @NotNull Action action) {
+            long accepted = Math.min(amount.longValue(), capacity - stored);
+            if (action.execute()) {
+                stored += accepted;
+            } else {
+                simulations++;
+            }
+            return amount.subtract(FloatingLong.create(accepted));
+        }
+
+        @NotNull
+        @Override
+        public FloatingLong extractEnergy(int container, @NotNull FloatingLong amount, @NotNull Action action) {
+            return FloatingLong.ZERO;
+        }
+    }
+}
@@ -47,4 +47,35 @@ class WildcardMatcherTest {
         Assertions.assertFalse(WildcardMatcher.matches("*#*", "asudnfaiasifa"));
         Assertions.assertFalse(WildcardMatcher.matches("*test*tester", "29342398test289289tester3"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test wildcard backtracking")
+    void testWildcardBacktracking() {
+        //The wildcard has to be able to absorb text that partially matched what comes after it
+        Assertions.assertTrue(WildcardMatcher.matches("*a", "aba"));
+        Assertions.assertTrue(WildcardMatcher.matches("*aab", "aaab"));
+        Assertions.assertTrue(WildcardMatcher.matches("*ab*c", "aabbc"));
+        Assertions.assertFalse(WildcardMatcher.matches("*aab", "aaba"));
+        Assertions.assertFalse(WildcardMatcher.matches("*a", "abab"));
+    }
+
+    @Test
+    @DisplayName("Test case insensitive matching")
+    void testCaseInsensitive() {
+        Assertions.assertTrue(WildcardMatcher.matches("C:Ingots/*", "c:ingots/iron"));
+        Assertions.assertTrue(WildcardMatcher.matches("c:ingots/*", "C:Ingots/Iron"));
+    }
+
+    @Test
+    @DisplayName("Test compiled wildcards match the same as uncompiled ones")
+    void testCompiled() {
+        String[] wildcards = {"", "*", "hello", "he?lo", "#23#", "*test*", "*test*another*", "*#*", "*test*tester", "C:Ingots/*"};
+        String[] texts = {"", "hello", "1234", "12341234test23523", "23234test2342389another23423", "asudnfaiasifa", "29342398test289289tester3", "c:ingots/iron"};
+        for (String wildcard : wildcards) {
+            WildcardMatcher.CompiledWildcard compiled = WildcardMatcher.compile(wildcard);
+            for (String text : texts) {
+                Assertions.assertEquals(WildcardMatcher.matches(wildcard, text), compiled.matches(text), () -> wildcard + " against " + text);
+            }
+        }
+    }
+}
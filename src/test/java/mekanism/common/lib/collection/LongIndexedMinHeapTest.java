@@ -0,0 +1,63 @@
+package mekanism.common.lib.collection;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongIndexedMinHeap implementation")
+class LongIndexedMinHeapTest {
+
+    @Test
+    @DisplayName("Test keys are polled in priority order")
+    void testPollOrder() {
+        LongIndexedMinHeap heap = new LongIndexedMinHeap(2);
+        heap.addOrUpdate(5, 5);
+        heap.addOrUpdate(1, 1);
+        heap.addOrUpdate(3, 3);
+        heap.addOrUpdate(4, 4);
+        heap.addOrUpdate(2, 2);
+        Assertions.assertEquals(5, heap.size());
+        for (long expected = 1; expected <= 5; expected++) {
+            Assertions.assertEquals(expected, heap.poll());
+        }
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, heap::poll);
+    }
+
+    @Test
+    @DisplayName("Test decreasing and increasing existing keys")
+    void testUpdateKey() {
+        LongIndexedMinHeap heap = new LongIndexedMinHeap();
+        heap.addOrUpdate(10, 10);
+        heap.addOrUpdate(20, 20);
+        heap.addOrUpdate(30, 30);
+        heap.addOrUpdate(30, 5);
+        Assertions.assertEquals(3, heap.size());
+        Assertions.assertEquals(30, heap.peekKey());
+        Assertions.assertEquals(5, heap.peekPriority());
+        heap.addOrUpdate(30, 25);
+        Assertions.assertEquals(10, heap.poll());
+        Assertions.assertEquals(20, heap.poll());
+        Assertions.assertEquals(30, heap.poll());
+        Assertions.assertFalse(heap.contains(30));
+    }
+
+    @Test
+    @DisplayName("Test random updates are polled in sorted order")
+    void testRandomUpdates() {
+        Random random = new Random(0);
+        LongIndexedMinHeap heap = new LongIndexedMinHeap();
+        for (int i = 0; i < 10_000; i++) {
+            heap.addOrUpdate(random.nextInt(2_000), random.nextDouble());
+        }
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            double priority = heap.peekPriority();
+            Assertions.assertTrue(priority >= last);
+            last = priority;
+            heap.poll();
+        }
+    }
+}
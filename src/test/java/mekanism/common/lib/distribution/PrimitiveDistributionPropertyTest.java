@@ -0,0 +1,103 @@
+package mekanism.common.lib.distribution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.lib.distribution.handler.LyingAmountIntegerHandler;
+import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
+import mekanism.common.lib.distribution.target.BoxedLongTarget;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveIntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveLongTarget;
+import mekanism.common.util.EmitUtils;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Positive;
+import org.junit.jupiter.api.Assertions;
+
+@Label("Property based testing that the primitive distribution targets split the same as the boxed ones")
+class PrimitiveDistributionPropertyTest {
+
+    private static final int TRIES = 10_000;
+
+    private static List<IntegerHandler> createHandlers(int infinite, int some, int specific, int lying, int specificAmount) {
+        List<IntegerHandler> handlers = new ArrayList<>();
+        //Interleave the different handler types so that the order they are checked in matters
+        int max = Math.max(Math.max(infinite, some), Math.max(specific, lying));
+        for (int i = 0; i < max; i++) {
+            if (i < infinite) {
+                handlers.add(new InfiniteIntegerHandler());
+            }
+            if (i < some) {
+                handlers.add(new PartialIntegerHandler());
+            }
+            if (i < specific) {
+                handlers.add(new SpecificAmountIntegerHandler(specificAmount + i));
+            }
+            if (i < lying) {
+                handlers.add(new LyingAmountIntegerHandler(specificAmount, i + 1));
+            }
+        }
+        return handlers;
+    }
+
+    private static void assertSameSplit(List<IntegerHandler> expected, List<IntegerHandler> actual) {
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).getAccepted(), actual.get(i).getAccepted(), "Handler " + i);
+        }
+    }
+
+    private static void addAll(List<IntegerHandler> handlers, Consumer<IntegerHandler> target) {
+        handlers.forEach(target);
+    }
+
+    @Property(tries = TRIES)
+    @Label("Test int distribution matches")
+    void testIntDistribution(@ForAll @IntRange(max = 20) int infinite, @ForAll @IntRange(max = 20) int some, @ForAll @IntRange(max = 20) int specific,
+          @ForAll @IntRange(max = 20) int lying, @ForAll @IntRange(max = 1_000) int specificAmount, @ForAll @Positive int toSend) {
+        List<IntegerHandler> boxedHandlers = createHandlers(infinite, some, specific, lying, specificAmount);
+        List<IntegerHandler> primitiveHandlers = createHandlers(infinite, some, specific, lying, specificAmount);
+        IntegerTarget boxed = new IntegerTarget();
+        addAll(boxedHandlers, boxed::addHandler);
+        PrimitiveIntegerTarget primitive = new PrimitiveIntegerTarget();
+        addAll(primitiveHandlers, primitive::addHandler);
+        Assertions.assertEquals(EmitUtils.sendToAcceptors(boxed, toSend, toSend), EmitUtils.sendToAcceptors(primitive, toSend, toSend));
+        assertSameSplit(boxedHandlers, primitiveHandlers);
+    }
+
+    @Property(tries = TRIES)
+    @Label("Test long distribution matches")
+    void testLongDistribution(@ForAll @IntRange(max = 20) int infinite, @ForAll @IntRange(max = 20) int some, @ForAll @IntRange(max = 20) int specific,
+          @ForAll @IntRange(max = 20) int lying, @ForAll @IntRange(max = 1_000) int specificAmount, @ForAll @Positive int toSend) {
+        List<IntegerHandler> boxedHandlers = createHandlers(infinite, some, specific, lying, specificAmount);
+        List<IntegerHandler> primitiveHandlers = createHandlers(infinite, some, specific, lying, specificAmount);
+        BoxedLongTarget boxed = new BoxedLongTarget();
+        addAll(boxedHandlers, boxed::addHandler);
+        PrimitiveLongTarget primitive = new PrimitiveLongTarget();
+        addAll(primitiveHandlers, primitive::addHandler);
+        long amount = toSend;
+        Assertions.assertEquals(EmitUtils.sendToAcceptors(boxed, amount, amount), EmitUtils.sendToAcceptors(primitive, amount, amount));
+        assertSameSplit(boxedHandlers, primitiveHandlers);
+    }
+
+    @Property(tries = TRIES)
+    @Label("Test reusing a primitive target")
+    void testReuse(@ForAll @IntRange(min = 1, max = 50) int infinite, @ForAll @Positive int toSend) {
+        PrimitiveIntegerTarget primitive = new PrimitiveIntegerTarget();
+        for (int pass = 0; pass < 2; pass++) {
+            primitive.clear();
+            List<IntegerHandler> expectedHandlers = createHandlers(infinite, 0, 0, 0, 0);
+            IntegerTarget boxed = new IntegerTarget();
+            addAll(expectedHandlers, boxed::addHandler);
+            List<IntegerHandler> handlers = createHandlers(infinite, 0, 0, 0, 0);
+            addAll(handlers, primitive::addHandler);
+            Assertions.assertEquals(EmitUtils.sendToAcceptors(boxed, toSend, toSend), EmitUtils.sendToAcceptors(primitive, toSend, toSend));
+            assertSameSplit(expectedHandlers, handlers);
+        }
+    }
+}
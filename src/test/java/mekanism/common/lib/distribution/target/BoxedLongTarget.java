@@ -0,0 +1,18 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class BoxedLongTarget extends Target<IntegerHandler, Long, Long> {
+
+    @Override
+    protected void acceptAmount(IntegerHandler integerHandler, SplitInfo<Long> splitInfo, Long amount) {
+        splitInfo.send((long) integerHandler.perform(amount.intValue(), false));
+    }
+
+    @Override
+    protected Long simulate(IntegerHandler integerHandler, Long offered) {
+        return (long) integerHandler.perform(offered.intValue(), true);
+    }
+}
@@ -0,0 +1,17 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.IntTarget;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class PrimitiveIntegerTarget extends IntTarget<IntegerHandler, Integer> {
+
+    @Override
+    protected int acceptAmount(IntegerHandler integerHandler, int amount) {
+        return integerHandler.perform(amount, false);
+    }
+
+    @Override
+    protected int simulate(IntegerHandler integerHandler, Integer offered) {
+        return integerHandler.perform(offered, true);
+    }
+}
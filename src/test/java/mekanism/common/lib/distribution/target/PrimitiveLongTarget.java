@@ -0,0 +1,17 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.LongTarget;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class PrimitiveLongTarget extends LongTarget<IntegerHandler, Long> {
+
+    @Override
+    protected long acceptAmount(IntegerHandler integerHandler, long amount) {
+        return integerHandler.perform((int) amount, false);
+    }
+
+    @Override
+    protected long simulate(IntegerHandler integerHandler, Long offered) {
+        return integerHandler.perform(offered.intValue(), true);
+    }
+}
@@ -0,0 +1,108 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test finding the parts of a network that got separated when transmitters are removed")
+class NetworkSplitFinderTest {
+
+    /**
+     * Creates a network of transmitters in a straight line along the x-axis, from zero to the given length (exclusive).
+     */
+    private static LongSet line(int length) {
+        LongSet network = new LongOpenHashSet();
+        for (int x = 0; x < length; x++) {
+            network.add(BlockPos.asLong(x, 0, 0));
+        }
+        return network;
+    }
+
+    /**
+     * Removes the given positions from the network and finds what got separated from the largest remaining part of the network.
+     */
+    private static List<LongSet> removeAndSplit(LongSet network, long... removed) {
+        for (long pos : removed) {
+            network.remove(pos);
+        }
+        LongList neighbors = new LongArrayList();
+        for (long pos : removed) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                long neighbor = BlockPos.offset(pos, side);
+                if (network.contains(neighbor)) {
+                    neighbors.add(neighbor);
+                }
+            }
+        }
+        List<LongSet> separated = new ArrayList<>();
+        for (LongList component : new NetworkSplitFinder(neighbors, (pos, side, neighbor) -> network.contains(neighbor)).findSeparated()) {
+            separated.add(new LongOpenHashSet(component));
+        }
+        return separated;
+    }
+
+    private static LongSet positions(int... xs) {
+        LongSet positions = new LongOpenHashSet();
+        for (int x : xs) {
+            positions.add(BlockPos.asLong(x, 0, 0));
+        }
+        return positions;
+    }
+
+    @Test
+    @DisplayName("Test removing a transmitter that connects two parts of the network")
+    void testRemoveBridge() {
+        List<LongSet> separated = removeAndSplit(line(5), BlockPos.asLong(2, 0, 0));
+        Assertions.assertEquals(1, separated.size());
+        Assertions.assertTrue(positions(0, 1).equals(separated.get(0)) || positions(3, 4).equals(separated.get(0)));
+    }
+
+    @Test
+    @DisplayName("Test removing a transmitter that other transmitters are still connected around")
+    void testRemoveNonBridge() {
+        //Ring of transmitters around the origin
+        LongSet network = new LongOpenHashSet();
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                if (x != 0 || z != 0) {
+                    network.add(BlockPos.asLong(x, 0, z));
+                }
+            }
+        }
+        Assertions.assertTrue(removeAndSplit(network, BlockPos.asLong(1, 0, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing a transmitter at the end of the network")
+    void testRemoveEnd() {
+        Assertions.assertTrue(removeAndSplit(line(5), BlockPos.asLong(4, 0, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing multiple transmitters at once")
+    void testRemoveMultiple() {
+        List<LongSet> separated = removeAndSplit(line(9), BlockPos.asLong(2, 0, 0), BlockPos.asLong(5, 0, 0));
+        Assertions.assertEquals(2, separated.size());
+        Assertions.assertTrue(separated.contains(positions(0, 1)));
+        Assertions.assertTrue(separated.contains(positions(3, 4)));
+    }
+
+    @Test
+    @DisplayName("Test the largest remaining part is the one that keeps the network and its buffer")
+    void testLargestKept() {
+        //The network and its buffer stay with whatever isn't separated, and the separated parts take their share of the buffer with them
+        List<LongSet> separated = removeAndSplit(line(8), BlockPos.asLong(1, 0, 0));
+        Assertions.assertEquals(List.of(positions(0)), separated);
+        separated = removeAndSplit(line(8), BlockPos.asLong(6, 0, 0));
+        Assertions.assertEquals(List.of(positions(7)), separated);
+    }
+}